@@ -1,6 +1,7 @@
 package seedu.medmoriser;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,6 +13,7 @@ import seedu.medmoriser.commons.core.LogsCenter;
 import seedu.medmoriser.commons.core.Version;
 import seedu.medmoriser.commons.exceptions.DataConversionException;
 import seedu.medmoriser.commons.util.ConfigUtil;
+import seedu.medmoriser.commons.util.FileUtil;
 import seedu.medmoriser.commons.util.StringUtil;
 import seedu.medmoriser.logic.Logic;
 import seedu.medmoriser.logic.LogicManager;
@@ -21,9 +23,15 @@ import seedu.medmoriser.model.ModelManager;
 import seedu.medmoriser.model.ReadOnlyMedmoriser;
 import seedu.medmoriser.model.ReadOnlyUserPrefs;
 import seedu.medmoriser.model.UserPrefs;
+import seedu.medmoriser.model.search.Analyzer;
+import seedu.medmoriser.model.search.SynonymDictionary;
 import seedu.medmoriser.model.util.SampleDataUtil;
+import seedu.medmoriser.storage.BackgroundSaver;
+import seedu.medmoriser.storage.BinaryMedmoriserStorage;
+import seedu.medmoriser.storage.JournalMedmoriserStorage;
 import seedu.medmoriser.storage.JsonMedmoriserStorage;
 import seedu.medmoriser.storage.JsonUserPrefsStorage;
+import seedu.medmoriser.storage.MappedMedmoriserStorage;
 import seedu.medmoriser.storage.MedmoriserStorage;
 import seedu.medmoriser.storage.Storage;
 import seedu.medmoriser.storage.StorageManager;
@@ -43,6 +51,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundSaver backgroundSaver;
     protected Model model;
     protected Config config;
 
@@ -56,18 +65,45 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MedmoriserStorage medmoriserStorage = new JsonMedmoriserStorage(userPrefs.getMedmoriserFilePath());
+        MedmoriserStorage medmoriserStorage = initMedmoriserStorage(userPrefs);
         storage = new StorageManager(medmoriserStorage, userPrefsStorage);
 
         initLogging(config);
 
+        initAnalyzer(userPrefs);
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        backgroundSaver = new BackgroundSaver(storage);
+        logic = new LogicManager(model, storage, backgroundSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code MedmoriserStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private MedmoriserStorage initMedmoriserStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file format : " + userPrefs.getDataFileFormat());
+        switch (userPrefs.getDataFileFormat()) {
+        case JOURNAL:
+            return new JournalMedmoriserStorage(userPrefs.getMedmoriserFilePath(), userPrefs.isDataFileCompact());
+        case BINARY:
+            return new BinaryMedmoriserStorage(
+                    BinaryMedmoriserStorage.getBinaryFilePath(userPrefs.getMedmoriserFilePath()),
+                    userPrefs.getMedmoriserFilePath());
+        case LAZY_BINARY:
+            return new BinaryMedmoriserStorage(
+                    BinaryMedmoriserStorage.getBinaryFilePath(userPrefs.getMedmoriserFilePath()),
+                    userPrefs.getMedmoriserFilePath(), true);
+        case READ_ONLY_BINARY:
+            return new MappedMedmoriserStorage(
+                    BinaryMedmoriserStorage.getBinaryFilePath(userPrefs.getMedmoriserFilePath()));
+        default:
+            return new JsonMedmoriserStorage(userPrefs.getMedmoriserFilePath(), userPrefs.isDataFileCompact(),
+                    userPrefs.isQuarantiningInvalidQAndAs());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s medmoriser and {@code userPrefs}. <br>
      * The data from the sample medmoriser will be used instead if {@code storage}'s medmoriser is not found,
@@ -93,6 +129,29 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Sets up the analyzer the qAndAs are indexed and searched with, using the synonyms in the file at
+     * {@code userPrefs}'s synonyms file path. A sample synonyms file is created for the user to edit if it is missing,
+     * and no synonyms are used if it cannot be read.
+     */
+    private void initAnalyzer(ReadOnlyUserPrefs userPrefs) {
+        Path synonymsFilePath = userPrefs.getSynonymsFilePath();
+        logger.info("Using synonyms file : " + synonymsFilePath);
+
+        SynonymDictionary synonyms = SynonymDictionary.EMPTY;
+        try {
+            if (!FileUtil.isFileExists(synonymsFilePath)) {
+                FileUtil.createIfMissing(synonymsFilePath);
+                FileUtil.writeToFile(synonymsFilePath, SampleDataUtil.getSampleSynonyms());
+            }
+            synonyms = SynonymDictionary.parse(Files.readAllLines(synonymsFilePath));
+        } catch (IOException e) {
+            logger.warning("Problem while reading the synonyms file. Will be searching without synonyms : "
+                    + StringUtil.getDetails(e));
+        }
+        Analyzer.setDefault(new Analyzer(Analyzer.STANDARD_FILTERS, synonyms));
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -174,6 +233,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Medmoriser ] =============================");
+        backgroundSaver.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
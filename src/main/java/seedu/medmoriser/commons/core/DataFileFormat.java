@@ -0,0 +1,29 @@
+package seedu.medmoriser.commons.core;
+
+/**
+ * The ways the medmoriser data file can be stored on disk.
+ */
+public enum DataFileFormat {
+    /** The whole medmoriser is rewritten as one JSON file on every save. */
+    JSON,
+    /**
+     * The JSON file is a snapshot, and each save appends only the changed qAndAs to a journal next to it.
+     * The journal is folded into a new snapshot once it grows too long.
+     */
+    JOURNAL,
+    /**
+     * The medmoriser is saved in a compact binary file next to the json file.
+     * A json file at the usual location that is newer than the binary file is imported from.
+     */
+    BINARY,
+    /**
+     * As {@link #BINARY}, but only the questions and tags are kept in memory.
+     * Each answer is read back from the binary file when it is shown or searched.
+     */
+    LAZY_BINARY,
+    /**
+     * A prebuilt binary file next to the json file is memory-mapped as a read-only deck.
+     * Its qAndAs are decoded only when shown or searched, and cannot be changed.
+     */
+    READ_ONLY_BINARY
+}
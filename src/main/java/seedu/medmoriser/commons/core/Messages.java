@@ -11,5 +11,7 @@ public class Messages {
             + "provided is invalid";
     public static final String MESSAGE_QANDA_LISTED_OVERVIEW = "%1$d qAndA listed!";
     public static final String MESSAGE_ONGOING_QUIZ = "Please end the ongoing quiz first.";
+    public static final String MESSAGE_READ_ONLY_MEDMORISER = "This question bank is read-only, "
+            + "so its questions cannot be added, edited, deleted or cleared.";
 
 }
@@ -1,10 +1,17 @@
 package seedu.medmoriser.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
 
 /**
  * Writes and reads files
@@ -12,6 +19,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the full contents of {@code file}, which already exists and is empty.
+         */
+        void writeTo(Path file) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +99,77 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces {@code file} with the contents written by {@code contentWriter}, such that a crash at any point
+     * leaves either the old or the new contents in place, never a mix of both.
+     * The contents are first written to a sibling temp file and synced to disk, and the temp file is then atomically
+     * moved over {@code file}. The previous contents of {@code file}, if any, are kept at {@code rollbackFile}.
+     * Missing parent directories are created.
+     * @throws IOException if the contents could not be written, in which case {@code file} is left as it was.
+     */
+    public static void writeAtomically(Path file, Path rollbackFile, ContentWriter contentWriter)
+            throws IOException {
+        requireNonNull(rollbackFile);
+        writeAtomically(file, Optional.of(rollbackFile), contentWriter);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, Path, ContentWriter)}, but does not keep the previous contents.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, Optional.empty(), contentWriter);
+    }
+
+    private static void writeAtomically(Path file, Optional<Path> rollbackFile, ContentWriter contentWriter)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            Files.deleteIfExists(tempFile);
+            Files.createFile(tempFile);
+            contentWriter.writeTo(tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            if (rollbackFile.isPresent() && isFileExists(file)) {
+                keepAsRollback(file, rollbackFile.get());
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncParentDir(file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Makes {@code rollbackFile} hold the current contents of {@code file}.
+     * A hard link is used where possible, as it costs nothing and {@code file} is about to be replaced, not changed.
+     */
+    private static void keepAsRollback(Path file, Path rollbackFile) throws IOException {
+        Files.deleteIfExists(rollbackFile);
+        try {
+            Files.createLink(rollbackFile, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, rollbackFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the directory containing {@code file}, so that a rename within it survives a crash.
+     * Not every platform allows directories to be opened, in which case this does nothing.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename itself has succeeded; only its durability across a crash is less certain
+        }
+    }
+
 }
@@ -2,15 +2,22 @@ package seedu.medmoriser.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -76,6 +83,43 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns a parser over the JSON in the given file, for reading it a piece at a time instead of all at once.
+     * Values read through the parser's {@code readValueAs} are bound in the same way as by {@link #readJsonFile}.
+     * The caller is responsible for closing the parser.
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+    /**
+     * Returns a generator that streams JSON into the given file through a buffered channel, replacing its contents.
+     * Values written through the generator's {@code writeObject} are bound in the same way as by {@link #saveJsonFile}.
+     * Closing the generator closes the file.
+     * @param filePath cannot be null.
+     * @param isPretty whether to indent the output as {@link #saveJsonFile} does, rather than write it compactly.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isPretty) throws IOException {
+        requireNonNull(filePath);
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+        return createGenerator(out, isPretty);
+    }
+
+    /**
+     * Similar to {@link #createGenerator(Path, boolean)}, but streams the JSON into {@code out}.
+     * Closing the generator closes {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPretty) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        return isPretty ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -0,0 +1,63 @@
+package seedu.medmoriser.commons.util;
+
+import static seedu.medmoriser.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * A map that holds at most a fixed number of entries, evicting the least recently used entry to make room.
+ * It is safe to use from several threads.
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    /**
+     * Creates an empty {@code LruCache} that holds at most {@code capacity} entries.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, or null if there is none, and marks it as the most recently used.
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used entry if the cache is full.
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes every entry for which {@code filter} returns true, calling it once for each entry.
+     * This does not change how recently any entry was used.
+     */
+    public synchronized void removeIf(BiPredicate<? super K, ? super V> filter) {
+        entries.entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+}
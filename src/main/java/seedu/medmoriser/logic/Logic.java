@@ -1,6 +1,7 @@
 package seedu.medmoriser.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.medmoriser.commons.core.GuiSettings;
@@ -23,6 +24,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be given an error message whenever saving the medmoriser in the background fails.
+     * The handler may be called from a thread other than the one executing commands.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -38,6 +45,21 @@ public interface Logic {
      */
     Path getMedmoriserFilePath();
 
+    /**
+     * Returns true if {@code qAndA} is the question of the ongoing quiz.
+     */
+    boolean isQuizQAndA(QAndA qAndA);
+
+    /**
+     * Returns true if the answer of the question of the ongoing quiz is shown.
+     */
+    boolean isQuizAnswerShown();
+
+    /**
+     * Returns the number of qAndAs in the data file that were set aside as invalid or duplicated when it was loaded.
+     */
+    int getQuarantinedCount();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -1,12 +1,16 @@
 package seedu.medmoriser.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.medmoriser.commons.core.GuiSettings;
 import seedu.medmoriser.commons.core.LogsCenter;
+import seedu.medmoriser.commons.util.FileUtil;
 import seedu.medmoriser.logic.commands.Command;
 import seedu.medmoriser.logic.commands.CommandResult;
 import seedu.medmoriser.logic.commands.exceptions.CommandException;
@@ -15,6 +19,7 @@ import seedu.medmoriser.logic.parser.exceptions.ParseException;
 import seedu.medmoriser.model.Model;
 import seedu.medmoriser.model.ReadOnlyMedmoriser;
 import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.storage.BackgroundSaver;
 import seedu.medmoriser.storage.Storage;
 
 /**
@@ -28,13 +33,51 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final MedmoriserParser medmoriserParser;
 
+    /** Saves the medmoriser in the background, or null if saves are made before {@link #execute} returns. */
+    private final BackgroundSaver backgroundSaver;
+    private volatile Consumer<String> saveFailureHandler = unused -> {};
+
+    /**
+     * Generation of the medmoriser last written to storage, or -1 if it is not known to be in storage.
+     * Reset by the background saver's thread when a save fails.
+     */
+    private volatile long savedGeneration;
+    private int savesPerformed = 0;
+    private int savesSkipped = 0;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved before each command returns, and a failed save fails the command.
+     * The model's medmoriser is assumed to match the storage file if that file exists, as it was loaded from there,
+     * unless some of the file's qAndAs were quarantined when loading it. A read-only deck is never saved.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves changes through {@code backgroundSaver}.
+     * Failed saves are reported to the handler set with {@link #setSaveFailureHandler(Consumer)}.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundSaver backgroundSaver) {
         this.model = model;
         this.storage = storage;
+        this.backgroundSaver = backgroundSaver;
         medmoriserParser = new MedmoriserParser();
+        // qAndAs quarantined when loading are still in the file until it is saved again,
+        // and a read-only deck never changes, so it has nothing to save even when its file is missing
+        savedGeneration = model.isMedmoriserReadOnly() || FileUtil.isFileExists(storage.getMedmoriserFilePath())
+                && storage.getQuarantinedCount() == 0
+                ? model.getMedmoriserGeneration()
+                : -1;
+
+        if (backgroundSaver != null) {
+            backgroundSaver.setFailureHandler(e -> {
+                // save again after the next command, whether or not it changes anything
+                savedGeneration = -1;
+                saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + e);
+            });
+        }
     }
 
     @Override
@@ -44,15 +87,45 @@ public class LogicManager implements Logic {
         Command command = medmoriserParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveMedmoriser(model.getMedmoriser());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
+        saveMedmoriserIfChanged();
 
         return commandResult;
     }
 
+    /**
+     * Saves the medmoriser unless it is unchanged since it was last saved.
+     * A failed save is retried after the next command.
+     */
+    private void saveMedmoriserIfChanged() throws CommandException {
+        long generation = model.getMedmoriserGeneration();
+        if (generation == savedGeneration) {
+            savesSkipped++;
+            logger.info("Medmoriser unchanged, save skipped (saves performed: " + savesPerformed
+                    + ", skipped: " + savesSkipped + ")");
+            return;
+        }
+
+        savedGeneration = generation;
+        if (backgroundSaver != null) {
+            backgroundSaver.requestSave(model.getMedmoriser());
+        } else {
+            try {
+                storage.saveMedmoriser(model.getMedmoriser());
+            } catch (IOException ioe) {
+                savedGeneration = -1;
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+        }
+        savesPerformed++;
+        logger.info("Medmoriser saved (saves performed: " + savesPerformed + ", skipped: " + savesSkipped + ")");
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
     @Override
     public ReadOnlyMedmoriser getMedmoriser() {
         return model.getMedmoriser();
@@ -68,6 +141,21 @@ public class LogicManager implements Logic {
         return model.getMedmoriserFilePath();
     }
 
+    @Override
+    public boolean isQuizQAndA(QAndA qAndA) {
+        return model.isQuizQAndA(qAndA);
+    }
+
+    @Override
+    public boolean isQuizAnswerShown() {
+        return model.isQuizAnswerShown();
+    }
+
+    @Override
+    public int getQuarantinedCount() {
+        return storage.getQuarantinedCount();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -48,6 +48,9 @@ public class AddCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (model.isMedmoriserReadOnly()) {
+            throw new CommandException(Messages.MESSAGE_READ_ONLY_MEDMORISER);
+        }
 
         if (model.hasQAndA(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_QANDA);
@@ -42,26 +42,19 @@ public class AnswerCommand extends Command {
         if (!QuizCommand.getIsQuiz()) {
             throw new CommandException(MESSAGE_NOT_QUIZ);
         } else {
-            model.getFilteredQAndAList().get(0).setQuizAnswer();
+            model.setQuizAnswerShown();
             if (beenAnswered) {
                 throw new CommandException(currCommandResult.getFeedbackToUser() + "\n" + MESSAGE_ALREADY_ANSWERED);
             } else {
-                setBeenAnswered(true, model);
+                setBeenAnswered(true);
                 currCommandResult = new CommandResult(MESSAGE_USER_ANSWER + userAnswer);
                 return currCommandResult;
             }
         }
     }
 
-    public static void setBeenAnswered(boolean hasBeenAnswered, Model model) {
+    public static void setBeenAnswered(boolean hasBeenAnswered) {
         beenAnswered = hasBeenAnswered;
-        if (!beenAnswered) {
-            for (int i = 0; i < model.getFilteredQAndAList().size(); i++) {
-                model.getFilteredQAndAList().get(i).setNotBeenAnswered();
-            }
-        } else {
-            model.getFilteredQAndAList().get(0).setBeenAnswered();
-        }
     }
 
     public static void setCurrCommandResult(String msg) {
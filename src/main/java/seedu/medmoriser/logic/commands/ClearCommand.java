@@ -19,6 +19,9 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (model.isMedmoriserReadOnly()) {
+            throw new CommandException(Messages.MESSAGE_READ_ONLY_MEDMORISER);
+        }
 
         if (QuizCommand.getIsQuiz()) {
             throw new CommandException(Messages.MESSAGE_ONGOING_QUIZ);
@@ -33,6 +33,10 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (model.isMedmoriserReadOnly()) {
+            throw new CommandException(Messages.MESSAGE_READ_ONLY_MEDMORISER);
+        }
+
         List<QAndA> lastShownList = model.getFilteredQAndAList();
 
         if (QuizCommand.getIsQuiz()) {
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_ANSWER;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_QUESTION;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.medmoriser.model.Model.PREDICATE_SHOW_ALL_QANDA;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -68,6 +67,9 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (model.isMedmoriserReadOnly()) {
+            throw new CommandException(Messages.MESSAGE_READ_ONLY_MEDMORISER);
+        }
 
         if (QuizCommand.getIsQuiz()) {
             throw new CommandException(Messages.MESSAGE_ONGOING_QUIZ);
@@ -85,14 +87,13 @@ public class EditCommand extends Command {
             }
 
             model.setQAndA(qAndAToEdit, editedQAndA);
-            model.updateFilteredQAndAList(PREDICATE_SHOW_ALL_QANDA);
             return new CommandResult(String.format(MESSAGE_EDIT_QANDA_SUCCESS, editedQAndA), true);
         }
     }
 
     /**
      * Creates and returns a {@code QAndA} with the details of {@code qAndAToEdit}
-     * edited with {@code editQAndADescriptor}.
+     * edited with {@code editQAndADescriptor}. The edited {@code QAndA} keeps the id of {@code qAndAToEdit}.
      */
     private static QAndA createEditedQAndA(QAndA qAndAToEdit,
                                            EditQAndADescriptor editQAndADescriptor) {
@@ -102,7 +103,7 @@ public class EditCommand extends Command {
         Answer updatedAnswer = editQAndADescriptor.getAnswer().orElse(qAndAToEdit.getAnswer());
         Set<Tag> updatedTags = editQAndADescriptor.getTags().orElse(qAndAToEdit.getTags());
 
-        return new QAndA(updatedQuestion, updatedAnswer, updatedTags);
+        return new QAndA(qAndAToEdit.getId(), updatedQuestion, updatedAnswer, updatedTags);
     }
 
     @Override
@@ -22,11 +22,8 @@ public class EndQuizCommand extends Command {
             throw new CommandException(MESSAGE_NO_ONGOING_QUIZ);
         } else {
             QuizCommand.setIsQuiz(false, model);
-            AnswerCommand.setBeenAnswered(false, model);
+            AnswerCommand.setBeenAnswered(false);
             model.updateFilteredQAndAList(PREDICATE_SHOW_ALL_QANDA);
-            for (int i = 0; i < model.getFilteredQAndAList().size(); i++) {
-                model.getFilteredQAndAList().get(i).setNotQuiz();
-            }
             return new CommandResult(MESSAGE_ENDQUIZ_ACKNOWLEDGEMENT);
         }
     }
@@ -2,7 +2,9 @@ package seedu.medmoriser.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_ANSWER;
+import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_QUESTION;
+import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
@@ -15,6 +17,7 @@ import seedu.medmoriser.model.qanda.QAndA;
 import seedu.medmoriser.model.qanda.QAndAContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+import seedu.medmoriser.model.search.IndexedPredicate;
 
 /**
  * Finds and lists all qAndAs in address book whose name contains any of the argument keywords.
@@ -35,7 +38,17 @@ public class FindCommand extends Command {
             + PREFIX_ANSWER + "KEYWORD [MORE_KEYWORDS]... OR "
             + PREFIX_TAG + "KEYWORD [MORE_KEYWORDS]... OR "
             + "KEYWORD [MORE_KEYWORDS]... \n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "Human Anatomy";
+            + "These can be combined with AND, OR, NOT and parentheses.\n"
+            + "Put a phrase in double quotes to find its words together, or join two phrases with NEAR/N to find them "
+            + "at most N words apart.\n"
+            + "Start with " + PREFIX_RANK + " to list only the most relevant QAndAs, most relevant first.\n"
+            + "Start with " + PREFIX_FUZZY + " to also find QAndAs with the keywords misspelt slightly.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "Human Anatomy\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "cardiology AND " + PREFIX_QUESTION + "murmur NOT "
+            + PREFIX_ANSWER + "aortic\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ANSWER + "\"left ventricle\", mitral NEAR/3 stenosis";
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid find query: %s\n" + MESSAGE_USAGE;
 
     private final Predicate<QAndA> predicate;
 
@@ -55,6 +68,10 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    public FindCommand(IndexedPredicate predicate) {
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -23,9 +23,9 @@ public class NextCommand extends Command {
 
         if (QuizCommand.getIsQuiz()) {
             if (QuizCommand.getCurrentList().size() > 0) {
-                AnswerCommand.setBeenAnswered(false, model);
+                AnswerCommand.setBeenAnswered(false);
                 QAndA qAndA = QuizCommand.getRandomQuestion(QuizCommand.getCurrentList());
-                model.updateFilteredQAndAList(x -> x.equals(qAndA));
+                model.updateFilteredQAndAList(x -> x.getId() == qAndA.getId());
                 QuizCommand.setIsQuiz(true, model);
                 QuizCommand.getCurrentList().remove(qAndA);
                 return new CommandResult(MESSAGE_SUCCESS);
@@ -64,11 +64,9 @@ public class QuizCommand extends Command {
     public static void setIsQuiz(boolean ongoingQuiz, Model model) {
         isQuiz = ongoingQuiz;
         if (!isQuiz) {
-            for (int i = 0; i < model.getFilteredQAndAList().size(); i++) {
-                model.getFilteredQAndAList().get(i).setNotQuiz();
-            }
+            model.clearQuizQAndA();
         } else {
-            model.getFilteredQAndAList().get(0).setAsQuiz();
+            model.setQuizQAndA(model.getFilteredQAndAList().get(0));
         }
     }
 
@@ -85,6 +83,8 @@ public class QuizCommand extends Command {
             model.updateFilteredQAndAList(predicate);
             ObservableList<QAndA> filteredList = model.getFilteredQAndAList();
 
+            // questions left from an earlier quiz may be from another medmoriser
+            currentList.clear();
             for (QAndA q : filteredList) {
                 currentList.add(q);
             }
@@ -94,7 +94,7 @@ public class QuizCommand extends Command {
 
                 currentList.remove(question);
 
-                model.updateFilteredQAndAList(x -> x.equals(question));
+                model.updateFilteredQAndAList(x -> x.getId() == question.getId());
                 setIsQuiz(true, model);
 
                 return new CommandResult(MESSAGE_SUCCESS);
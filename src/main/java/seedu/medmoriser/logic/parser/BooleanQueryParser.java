@@ -0,0 +1,290 @@
+package seedu.medmoriser.logic.parser;
+
+import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_ANSWER;
+import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_QUESTION;
+import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.medmoriser.logic.commands.FindCommand;
+import seedu.medmoriser.logic.parser.exceptions.ParseException;
+import seedu.medmoriser.model.qanda.AnswerContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.QAndAContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+import seedu.medmoriser.model.search.BooleanQueryPredicate;
+import seedu.medmoriser.model.search.IndexedPredicate;
+import seedu.medmoriser.model.search.PhraseQueryPredicate;
+import seedu.medmoriser.model.search.SearchIndex.Field;
+import seedu.medmoriser.model.search.Tokenizer;
+
+/**
+ * Parses a find query that combines search terms with AND, OR, NOT and parentheses,
+ * e.g. {@code t/cardiology AND q/murmur NOT a/aortic}.
+ * <p>
+ * A search term is a prefix followed by comma-separated keywords, as in a plain find, or keywords alone to search
+ * questions and answers. Terms next to each other are joined by AND, and {@code x NOT y} means x AND NOT y.
+ * NOT binds tightest and OR loosest. The operators are only recognised in upper case, and only when one of them
+ * comes right before a prefixed term or parenthesis, or joins several prefixed terms, so that a plain find such as
+ * {@code q/Which is NOT a sign} keeps its meaning. Operators inside double quotes are searched for as words.
+ * <p>
+ * A question or answer keyword in double quotes is a phrase whose words must occur together, and
+ * {@code x NEAR/n y} finds the words or quoted phrases x and y at most n words apart.
+ */
+class BooleanQueryParser {
+
+    public static final String MESSAGE_UNMATCHED_PARENTHESIS = "unmatched parenthesis";
+    public static final String MESSAGE_MISSING_TERM = "a search term is missing";
+    public static final String MESSAGE_MISSING_KEYWORD = "%s needs at least one keyword";
+    public static final String MESSAGE_UNMATCHED_QUOTE = "unmatched double quote";
+    public static final String MESSAGE_MISSING_PHRASE_WORD = "a phrase needs at least one word";
+    public static final String MESSAGE_INVALID_NEAR = "NEAR must join two phrases and be followed by the number of "
+            + "words allowed between them, e.g. mitral NEAR/3 stenosis";
+
+    private static final Pattern OPERATOR_PATTERN = Pattern.compile("\\b(AND|OR|NOT)\\b");
+    private static final Pattern PREFIX_PATTERN = Pattern.compile("\\b[qat]/");
+    private static final Pattern OPERATOR_BEFORE_TERM_PATTERN =
+            Pattern.compile("\\b(?:AND|OR|NOT)(?:\\s*\\(|\\s+[qat]/)");
+    private static final Pattern QUOTED_PATTERN = Pattern.compile("\"[^\"]*\"");
+    // quoted text is matched so that the operators and prefixes inside it are left alone
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"[^\"]*\"|\\(|\\)|\\b(?:AND|OR|NOT)\\b|\\b[qat]/");
+    private static final Pattern NEAR_PATTERN = Pattern.compile("\\bNEAR/");
+    private static final Pattern NEAR_KEYWORD_PATTERN = Pattern.compile("(?<first>.*?)\\s*\\bNEAR/(?<distance>\\S*)"
+            + "\\s*(?<second>.*)");
+    // a comma outside double quotes, which is followed by an even number of them
+    private static final Pattern KEYWORD_SEPARATOR_PATTERN = Pattern.compile(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
+    private static final String QUOTE = "\"";
+
+    private final List<String> tokens;
+    private int position = 0;
+
+    private BooleanQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns true if {@code args} uses the syntax of this parser rather than that of a plain find.
+     */
+    static boolean isBooleanQuery(String args) {
+        String unquotedArgs = QUOTED_PATTERN.matcher(args).replaceAll(QUOTE + QUOTE);
+        Matcher prefixMatcher = PREFIX_PATTERN.matcher(unquotedArgs);
+        boolean hasPrefix = prefixMatcher.find();
+        boolean hasOperator = OPERATOR_PATTERN.matcher(unquotedArgs).find();
+        return hasPrefix && hasOperator && prefixMatcher.find()
+                || OPERATOR_BEFORE_TERM_PATTERN.matcher(unquotedArgs).find()
+                || hasPrefix && unquotedArgs.trim().startsWith("(");
+    }
+
+    /**
+     * Returns true if {@code args} is a single search term with a phrase or NEAR search, which needs this parser.
+     */
+    static boolean isPhraseQuery(String args) {
+        return NEAR_PATTERN.matcher(args).find() || args.contains(QUOTE);
+    }
+
+    /**
+     * Parses {@code args} into a predicate.
+     *
+     * @throws ParseException if {@code args} is not a valid query.
+     */
+    static IndexedPredicate parse(String args) throws ParseException {
+        BooleanQueryParser parser = new BooleanQueryParser(tokenize(args));
+        IndexedPredicate predicate = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw invalidQuery(MESSAGE_UNMATCHED_PARENTHESIS);
+        }
+        return predicate;
+    }
+
+    /**
+     * Parses {@code args}, an optional prefix followed by keywords, as a single search term in which
+     * AND, OR, NOT and parentheses are keywords rather than operators.
+     *
+     * @throws ParseException if {@code args} is not a valid search term.
+     */
+    static IndexedPredicate parseTerm(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        String keywords = args.trim();
+        Matcher prefixMatcher = PREFIX_PATTERN.matcher(keywords);
+        if (prefixMatcher.lookingAt()) {
+            tokens.add(prefixMatcher.group());
+            keywords = keywords.substring(prefixMatcher.end());
+        }
+        addText(tokens, keywords);
+        return new BooleanQueryParser(tokens).parseTerm();
+    }
+
+    /**
+     * Splits {@code args} into parentheses, operators, prefixes and the trimmed text between them.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_PATTERN.matcher(args);
+        int textStart = 0;
+        while (matcher.find()) {
+            if (matcher.group().startsWith(QUOTE)) {
+                continue;
+            }
+            addText(tokens, args.substring(textStart, matcher.start()));
+            tokens.add(matcher.group());
+            textStart = matcher.end();
+        }
+        addText(tokens, args.substring(textStart));
+        return tokens;
+    }
+
+    private static void addText(List<String> tokens, String text) {
+        if (!text.trim().isEmpty()) {
+            tokens.add(text.trim());
+        }
+    }
+
+    private IndexedPredicate parseOr() throws ParseException {
+        List<IndexedPredicate> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (accept("OR")) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : BooleanQueryPredicate.or(operands);
+    }
+
+    private IndexedPredicate parseAnd() throws ParseException {
+        List<IndexedPredicate> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (position < tokens.size() && !peek().equals("OR") && !peek().equals(")")) {
+            accept("AND");
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : BooleanQueryPredicate.and(operands);
+    }
+
+    private IndexedPredicate parseNot() throws ParseException {
+        if (accept("NOT")) {
+            return BooleanQueryPredicate.not(parseNot());
+        }
+        if (accept("(")) {
+            IndexedPredicate predicate = parseOr();
+            if (!accept(")")) {
+                throw invalidQuery(MESSAGE_UNMATCHED_PARENTHESIS);
+            }
+            return predicate;
+        }
+        return parseTerm();
+    }
+
+    private IndexedPredicate parseTerm() throws ParseException {
+        if (position == tokens.size() || isOperatorOrParenthesis(peek())) {
+            throw invalidQuery(peek().equals(")") ? MESSAGE_UNMATCHED_PARENTHESIS : MESSAGE_MISSING_TERM);
+        }
+        String prefix = tokens.get(position++);
+        if (!isPrefix(prefix)) {
+            return parseKeywords(prefix, splitKeywords(prefix));
+        }
+
+        List<String> keywords = new ArrayList<>();
+        if (position < tokens.size() && !isOperatorOrParenthesis(peek()) && !isPrefix(peek())) {
+            keywords = splitKeywords(tokens.get(position++));
+        }
+        if (prefix.equals(PREFIX_TAG.getPrefix())) {
+            return new TagContainsKeywordsPredicate(keywords);
+        }
+        if (keywords.isEmpty()) {
+            throw invalidQuery(String.format(MESSAGE_MISSING_KEYWORD, prefix));
+        }
+        return parseKeywords(prefix, keywords);
+    }
+
+    /**
+     * Returns a predicate satisfied by the questions, answers, or either, as given by {@code prefix}, that match any
+     * of {@code keywords}. Keywords that are phrases or NEAR searches are looked up by their positions.
+     */
+    private static IndexedPredicate parseKeywords(String prefix, List<String> keywords) throws ParseException {
+        Field[] fields = prefix.equals(PREFIX_QUESTION.getPrefix()) ? new Field[] {Field.QUESTION}
+                : prefix.equals(PREFIX_ANSWER.getPrefix()) ? new Field[] {Field.ANSWER}
+                : new Field[] {Field.QUESTION, Field.ANSWER};
+        List<IndexedPredicate> operands = new ArrayList<>();
+        List<String> plainKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            Matcher nearMatcher = NEAR_KEYWORD_PATTERN.matcher(keyword);
+            if (nearMatcher.matches()) {
+                operands.add(parseNear(nearMatcher, fields));
+            } else if (keyword.contains(QUOTE)) {
+                operands.add(PhraseQueryPredicate.phrase(parsePhrase(keyword), fields));
+            } else {
+                plainKeywords.add(keyword);
+            }
+        }
+
+        if (!plainKeywords.isEmpty()) {
+            operands.add(0, prefix.equals(PREFIX_QUESTION.getPrefix())
+                    ? new QuestionContainsKeywordsPredicate(plainKeywords)
+                    : prefix.equals(PREFIX_ANSWER.getPrefix())
+                    ? new AnswerContainsKeywordsPredicate(plainKeywords)
+                    : new QAndAContainsKeywordsPredicate(plainKeywords));
+        }
+        return operands.size() == 1 ? operands.get(0) : BooleanQueryPredicate.or(operands);
+    }
+
+    private static IndexedPredicate parseNear(Matcher nearMatcher, Field... fields) throws ParseException {
+        String first = nearMatcher.group("first");
+        String second = nearMatcher.group("second");
+        String distance = nearMatcher.group("distance");
+        if (first.isEmpty() || second.isEmpty() || NEAR_PATTERN.matcher(second).find()
+                || !distance.matches("\\d{1,9}")) {
+            throw invalidQuery(MESSAGE_INVALID_NEAR);
+        }
+        return PhraseQueryPredicate.near(parsePhrase(first), parsePhrase(second), Integer.parseInt(distance), fields);
+    }
+
+    /**
+     * Returns {@code text} without the double quotes around it.
+     *
+     * @throws ParseException if {@code text} has no words.
+     */
+    private static String parsePhrase(String text) throws ParseException {
+        String phrase = text.replace(QUOTE, "");
+        if (Tokenizer.tokenize(phrase).isEmpty()) {
+            throw invalidQuery(MESSAGE_MISSING_PHRASE_WORD);
+        }
+        return phrase;
+    }
+
+    private static List<String> splitKeywords(String text) throws ParseException {
+        if (text.chars().filter(c -> c == '"').count() % 2 != 0) {
+            throw invalidQuery(MESSAGE_UNMATCHED_QUOTE);
+        }
+        return Arrays.stream(KEYWORD_SEPARATOR_PATTERN.split(text)).map(String::trim)
+                .filter(keyword -> !keyword.isEmpty()).collect(Collectors.toList());
+    }
+
+    private String peek() {
+        return position < tokens.size() ? tokens.get(position) : "";
+    }
+
+    private boolean accept(String token) {
+        if (peek().equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isOperatorOrParenthesis(String token) {
+        return token.equals("(") || token.equals(")") || OPERATOR_PATTERN.matcher(token).matches();
+    }
+
+    private static boolean isPrefix(String token) {
+        return token.equals(PREFIX_QUESTION.getPrefix()) || token.equals(PREFIX_ANSWER.getPrefix())
+                || token.equals(PREFIX_TAG.getPrefix());
+    }
+
+    private static ParseException invalidQuery(String reason) {
+        return new ParseException(String.format(FindCommand.MESSAGE_INVALID_QUERY, reason));
+    }
+
+}
@@ -9,5 +9,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_QUESTION = new Prefix("q/");
     public static final Prefix PREFIX_ANSWER = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_RANK = new Prefix("r/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("f/");
 
 }
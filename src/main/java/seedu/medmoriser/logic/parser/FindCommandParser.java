@@ -2,10 +2,14 @@ package seedu.medmoriser.logic.parser;
 
 import static seedu.medmoriser.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_ANSWER;
+import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_QUESTION;
+import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.medmoriser.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.medmoriser.logic.commands.FindCommand;
 import seedu.medmoriser.logic.parser.exceptions.ParseException;
@@ -13,6 +17,8 @@ import seedu.medmoriser.model.qanda.AnswerContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.QAndAContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+import seedu.medmoriser.model.search.FuzzyKeywordsPredicate;
+import seedu.medmoriser.model.search.RankedQueryPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -32,6 +38,23 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(PREFIX_RANK.getPrefix())) {
+            List<String> keywords = parseKeywordsAfter(PREFIX_RANK, trimmedArgs);
+            return new FindCommand(new RankedQueryPredicate(keywords, RankedQueryPredicate.DEFAULT_LIMIT));
+        }
+
+        if (trimmedArgs.startsWith(PREFIX_FUZZY.getPrefix())) {
+            return new FindCommand(new FuzzyKeywordsPredicate(parseKeywordsAfter(PREFIX_FUZZY, trimmedArgs)));
+        }
+
+        if (BooleanQueryParser.isBooleanQuery(trimmedArgs)) {
+            return new FindCommand(BooleanQueryParser.parse(trimmedArgs));
+        }
+
+        if (BooleanQueryParser.isPhraseQuery(trimmedArgs)) {
+            return new FindCommand(BooleanQueryParser.parseTerm(trimmedArgs));
+        }
+
         if (args.contains("q/") && args.contains("t/") && args.contains("a/")
                 || args.contains("q/") && args.contains("a/") || args.contains("q/") && args.contains("t/")
                 || args.contains("t/") && args.contains("a/")) {
@@ -78,6 +101,19 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
     }
 
+    /**
+     * Returns the comma-separated keywords following {@code prefix} at the start of {@code trimmedArgs}.
+     * @throws ParseException if there are no keywords.
+     */
+    private List<String> parseKeywordsAfter(Prefix prefix, String trimmedArgs) throws ParseException {
+        List<String> keywords = Arrays.stream(trimmedArgs.substring(prefix.getPrefix().length()).split(","))
+                .map(String::trim).filter(keyword -> !keyword.isEmpty()).collect(Collectors.toList());
+        if (keywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return keywords;
+    }
+
     private String[] trimArg(String[] args) {
         String[] toReturn = new String[args.length];
         for (int i = 0; i < args.length; i++) {
@@ -0,0 +1,163 @@
+package seedu.medmoriser.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * Records the most recent single-qAndA changes made to a medmoriser, each tagged with the generation it produced,
+ * so that a reader who knows an earlier {@link Position} can catch up by applying only what changed since.
+ * <p>
+ * Only the last {@code capacity} changes are kept. Replacing all the qAndAs at once starts the log afresh, and the
+ * changes made before then are no longer available. The log is safe to read from a thread other than the one
+ * changing the medmoriser.
+ */
+public class ChangeLog {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final Deque<Change> changes = new ArrayDeque<>();
+
+    /** The generation reached by the last change. */
+    private long generation;
+    /** The generation the oldest kept change was made from; earlier changes are no longer available. */
+    private long oldestGeneration;
+    /** The generation the log was last started afresh at. */
+    private long resetGeneration;
+    /** The position, in another log, that holds the same qAndAs as this log at {@code resetGeneration}. */
+    private Position base;
+
+    /**
+     * Creates an empty log that keeps at most {@code capacity} changes.
+     */
+    public ChangeLog(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records that {@code removed} was replaced by {@code added}.
+     * Either may be null, for a qAndA that was only added or only removed.
+     */
+    public synchronized void record(QAndA removed, QAndA added) {
+        generation++;
+        changes.addLast(new Change(generation, removed, added));
+        if (changes.size() > capacity) {
+            changes.removeFirst();
+            oldestGeneration = changes.getFirst().generation - 1;
+        }
+    }
+
+    /**
+     * Starts the log afresh after all the qAndAs were replaced.
+     *
+     * @param base the position in another log with the same qAndAs, or null if there is none.
+     */
+    public synchronized void reset(Position base) {
+        generation++;
+        changes.clear();
+        oldestGeneration = generation;
+        resetGeneration = generation;
+        this.base = base;
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the position the log has reached.
+     */
+    public synchronized Position getPosition() {
+        return new Position(this, generation);
+    }
+
+    /**
+     * Returns the changes leading from {@code earlier} to the given generation of this log, oldest first,
+     * or an empty {@code Optional} if they are no longer known.
+     */
+    private synchronized Optional<List<Change>> getChanges(Position earlier, long toGeneration) {
+        long fromGeneration;
+        if (earlier.log == this) {
+            fromGeneration = earlier.generation;
+        } else if (earlier.equals(base) && oldestGeneration == resetGeneration) {
+            fromGeneration = resetGeneration;
+        } else {
+            return Optional.empty();
+        }
+        if (fromGeneration < oldestGeneration || fromGeneration > toGeneration) {
+            return Optional.empty();
+        }
+
+        List<Change> result = new ArrayList<>();
+        for (Change change : changes) {
+            if (change.generation > fromGeneration && change.generation <= toGeneration) {
+                result.add(change);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * A point in the history of a {@link ChangeLog}.
+     */
+    public static class Position {
+
+        private final ChangeLog log;
+        private final long generation;
+
+        private Position(ChangeLog log, long generation) {
+            this.log = log;
+            this.generation = generation;
+        }
+
+        /**
+         * Returns the changes made between {@code earlier} and this position, oldest first,
+         * or an empty {@code Optional} if they are no longer known.
+         */
+        public Optional<List<Change>> getChangesSince(Position earlier) {
+            return log.getChanges(earlier, generation);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Position // instanceof handles nulls
+                    && log == ((Position) other).log
+                    && generation == ((Position) other).generation);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(log) * 31 + Long.hashCode(generation);
+        }
+    }
+
+    /**
+     * One qAndA added, edited or removed.
+     */
+    public static class Change {
+
+        private final long generation;
+        private final QAndA removed;
+        private final QAndA added;
+
+        private Change(long generation, QAndA removed, QAndA added) {
+            this.generation = generation;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        public Optional<QAndA> getRemoved() {
+            return Optional.ofNullable(removed);
+        }
+
+        public Optional<QAndA> getAdded() {
+            return Optional.ofNullable(added);
+        }
+    }
+}
@@ -3,10 +3,12 @@ package seedu.medmoriser.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.medmoriser.model.qanda.QAndA;
 import seedu.medmoriser.model.qanda.UniqueQAndAList;
+import seedu.medmoriser.model.search.SearchIndex;
 
 /**
  * Wraps all data at the medmoriser level
@@ -16,6 +18,12 @@ public class Medmoriser implements ReadOnlyMedmoriser {
 
     private final UniqueQAndAList qAndAs;
 
+    /** Built on first use, so that short-lived copies never pay for indexing. */
+    private SearchIndex searchIndex;
+
+    /** Records every change to the qAndAs, and counts them as generations. */
+    private final ChangeLog changeLog = new ChangeLog(ChangeLog.DEFAULT_CAPACITY);
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -45,15 +53,25 @@ public class Medmoriser implements ReadOnlyMedmoriser {
      */
     public void setqAndAs(List<QAndA> qAndAs) {
         this.qAndAs.setQAndAs(qAndAs);
+        searchIndex = null;
+        changeLog.reset(null);
     }
 
     /**
      * Resets the existing data of this {@code Medmoriser} with {@code newData}.
+     * The changes made to this medmoriser afterwards can be followed on from the position {@code newData} is at.
      */
     public void resetData(ReadOnlyMedmoriser newData) {
         requireNonNull(newData);
 
-        setqAndAs(newData.getQAndAList());
+        if (newData instanceof Medmoriser) {
+            // already known to be unique, so the validation pass can be skipped
+            qAndAs.setQAndAs(((Medmoriser) newData).qAndAs);
+        } else {
+            qAndAs.setQAndAs(newData.getQAndAList());
+        }
+        searchIndex = null;
+        changeLog.reset(newData.getChangeLogPosition().orElse(null));
     }
 
     //// qAndA-level operations
@@ -72,26 +90,71 @@ public class Medmoriser implements ReadOnlyMedmoriser {
      */
     public void addQAndA(QAndA p) {
         qAndAs.add(p);
+        if (searchIndex != null) {
+            searchIndex.add(p);
+        }
+        changeLog.record(null, p);
     }
 
     /**
-     * Replaces the given qAndA {@code target} in the list with {@code editedQAndA}.
+     * Replaces the given qAndA {@code target} in the list with {@code editedQAndA}, and returns the qAndA replaced.
      * {@code target} must exist in the medmoriser.
      * The qAndA identity of {@code editedQAndA} must
      * not be the same as another existing qAndA in the medmoriser.
      */
-    public void setQAndA(QAndA target, QAndA editedQAndA) {
+    public QAndA setQAndA(QAndA target, QAndA editedQAndA) {
         requireNonNull(editedQAndA);
 
-        qAndAs.setQAndA(target, editedQAndA);
+        QAndA replaced = qAndAs.setQAndA(target, editedQAndA);
+        if (searchIndex != null) {
+            searchIndex.remove(replaced);
+            searchIndex.add(editedQAndA);
+        }
+        changeLog.record(replaced, editedQAndA);
+        return replaced;
     }
 
     /**
-     * Removes {@code key} from this {@code Medmoriser}.
+     * Removes {@code key} from this {@code Medmoriser}, and returns the qAndA removed.
      * {@code key} must exist in the medmoriser.
      */
-    public void removeQAndA(QAndA key) {
-        qAndAs.remove(key);
+    public QAndA removeQAndA(QAndA key) {
+        QAndA removed = qAndAs.remove(key);
+        if (searchIndex != null) {
+            searchIndex.remove(removed);
+        }
+        changeLog.record(removed, null);
+        return removed;
+    }
+
+    /**
+     * Returns the qAndA with the given {@code id}, or {@code null} if there is none.
+     */
+    public QAndA getQAndA(long id) {
+        return qAndAs.get(id);
+    }
+
+    /**
+     * Returns the search index over the qAndAs in this medmoriser.
+     */
+    public SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex(qAndAs);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the number of changes made to the qAndAs so far.
+     * Two calls return the same value only if the qAndAs were not changed in between.
+     */
+    public long getGeneration() {
+        return changeLog.getGeneration();
+    }
+
+    @Override
+    public Optional<ChangeLog.Position> getChangeLogPosition() {
+        return Optional.of(changeLog.getPosition());
     }
 
     //// util methods
@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.medmoriser.commons.core.GuiSettings;
 import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.RankedQueryPredicate;
 
 /**
  * The API of the Model component.
@@ -52,6 +53,16 @@ public interface Model {
     /** Returns the Medmoriser */
     ReadOnlyMedmoriser getMedmoriser();
 
+    /**
+     * Returns the generation of the Medmoriser, which changes whenever its qAndAs change.
+     */
+    long getMedmoriserGeneration();
+
+    /**
+     * Returns true if the Medmoriser is a {@link ReadOnlyDeck}, whose qAndAs cannot be added, edited or deleted.
+     */
+    boolean isMedmoriserReadOnly();
+
     /**
      * Returns true if a qAndA with the same identity as {@code qAndA} exists in the medmoriser.
      */
@@ -82,7 +93,43 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered qAndA list to filter by the given {@code predicate}.
+     * A {@link RankedQueryPredicate} also orders the list by relevance, most relevant first.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredQAndAList(Predicate<QAndA> predicate);
+
+    /**
+     * Marks {@code qAndA} as the question of the ongoing quiz, with its answer hidden.
+     */
+    void setQuizQAndA(QAndA qAndA);
+
+    /**
+     * Clears the question of the ongoing quiz, as when the quiz ends.
+     */
+    void clearQuizQAndA();
+
+    /**
+     * Returns true if {@code qAndA} is the question of the ongoing quiz, or a copy of it decoded again.
+     */
+    boolean isQuizQAndA(QAndA qAndA);
+
+    /**
+     * Shows the answer of the question of the ongoing quiz.
+     */
+    void setQuizAnswerShown();
+
+    /**
+     * Returns true if the answer of the question of the ongoing quiz is shown.
+     */
+    boolean isQuizAnswerShown();
+
+    /**
+     * Returns the number of times the qAndAs matching a search were found among the recently cached results.
+     */
+    long getQueryCacheHits();
+
+    /**
+     * Returns the number of times the qAndAs matching a search had to be worked out.
+     */
+    long getQueryCacheMisses();
 }
@@ -4,14 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.medmoriser.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.medmoriser.commons.core.GuiSettings;
 import seedu.medmoriser.commons.core.LogsCenter;
 import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.IndexedPredicate;
+import seedu.medmoriser.model.search.RankedQueryPredicate;
+import seedu.medmoriser.model.search.ResolvedPredicate;
 
 /**
  * Represents the in-memory model of the medmoriser data.
@@ -20,11 +33,22 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final Medmoriser medmoriser;
+    // the data shown instead of the medmoriser, which stays empty, when the data cannot be modified
+    private final ReadOnlyDeck readOnlyDeck;
     private final UserPrefs userPrefs;
     private final FilteredList<QAndA> filteredQAndAS;
+    // the filtered list as shown, in the order of the medmoriser unless the last search was ranked
+    private final SortedList<QAndA> shownQAndAs;
+    // the predicate last applied to the filtered list, which keeps itself up to date as qAndAs are changed
+    private Predicate<QAndA> activePredicate = PREDICATE_SHOW_ALL_QANDA;
+    private final QueryResultCache queryResultCache = new QueryResultCache(QueryResultCache.DEFAULT_CAPACITY);
+    // the quiz state is kept by id, as a qAndA of a read-only deck may be decoded again as a new object at any time
+    private OptionalLong quizQAndAId = OptionalLong.empty();
+    private boolean isQuizAnswerShown = false;
 
     /**
      * Initializes a ModelManager with the given medmoriser and userPrefs.
+     * A {@link ReadOnlyDeck} is used as it is rather than copied.
      */
     public ModelManager(ReadOnlyMedmoriser medmoriser, ReadOnlyUserPrefs userPrefs) {
         super();
@@ -32,9 +56,16 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with medmoriser: " + medmoriser + " and user prefs " + userPrefs);
 
-        this.medmoriser = new Medmoriser(medmoriser);
+        if (medmoriser instanceof ReadOnlyDeck) {
+            this.medmoriser = new Medmoriser();
+            this.readOnlyDeck = (ReadOnlyDeck) medmoriser;
+        } else {
+            this.medmoriser = new Medmoriser(medmoriser);
+            this.readOnlyDeck = null;
+        }
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredQAndAS = new FilteredList<>(this.medmoriser.getQAndAList());
+        filteredQAndAS = new FilteredList<>(getMedmoriser().getQAndAList());
+        shownQAndAs = new SortedList<>(filteredQAndAS);
     }
 
     public ModelManager() {
@@ -80,36 +111,65 @@ public class ModelManager implements Model {
 
     @Override
     public void setMedmoriser(ReadOnlyMedmoriser medmoriser) {
+        requireModifiable();
         this.medmoriser.resetData(medmoriser);
+        queryResultCache.clear();
     }
 
     @Override
     public ReadOnlyMedmoriser getMedmoriser() {
-        return medmoriser;
+        return isMedmoriserReadOnly() ? readOnlyDeck : medmoriser;
+    }
+
+    @Override
+    public long getMedmoriserGeneration() {
+        return medmoriser.getGeneration();
+    }
+
+    @Override
+    public boolean isMedmoriserReadOnly() {
+        return readOnlyDeck != null;
     }
 
     @Override
     public boolean hasQAndA(QAndA qAndA) {
         requireNonNull(qAndA);
+        if (isMedmoriserReadOnly()) {
+            return readOnlyDeck.hasQAndA(qAndA);
+        }
         return medmoriser.hasQAndA(qAndA);
     }
 
     @Override
     public void deleteQAndA(QAndA target) {
-        medmoriser.removeQAndA(target);
+        requireModifiable();
+        long oldGeneration = medmoriser.getGeneration();
+        QAndA removed = medmoriser.removeQAndA(target);
+        queryResultCache.update(oldGeneration, medmoriser.getGeneration(), removed, null);
     }
 
     @Override
     public void addQAndA(QAndA qAndA) {
+        requireModifiable();
+        long oldGeneration = medmoriser.getGeneration();
         medmoriser.addQAndA(qAndA);
-        updateFilteredQAndAList(PREDICATE_SHOW_ALL_QANDA);
+        queryResultCache.update(oldGeneration, medmoriser.getGeneration(), null, qAndA);
     }
 
     @Override
     public void setQAndA(QAndA target, QAndA editedQAndA) {
         requireAllNonNull(target, editedQAndA);
+        requireModifiable();
 
-        medmoriser.setQAndA(target, editedQAndA);
+        long oldGeneration = medmoriser.getGeneration();
+        QAndA replaced = medmoriser.setQAndA(target, editedQAndA);
+        queryResultCache.update(oldGeneration, medmoriser.getGeneration(), replaced, editedQAndA);
+    }
+
+    private void requireModifiable() {
+        if (isMedmoriserReadOnly()) {
+            throw new UnsupportedOperationException("A read-only deck cannot be modified");
+        }
     }
 
     //=========== Filtered QAndA List Accessors =============================================================
@@ -120,13 +180,143 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<QAndA> getFilteredQAndAList() {
-        return filteredQAndAS;
+        return shownQAndAs;
     }
 
     @Override
     public void updateFilteredQAndAList(Predicate<QAndA> predicate) {
         requireNonNull(predicate);
-        filteredQAndAS.setPredicate(predicate);
+        // the filtered list applies each change to the medmoriser by itself, testing only the qAndA that changed,
+        // so filtering again by the same predicate would only rebuild it and refresh every visible cell.
+        // A ranked search is worked out again, as the changes may have made other qAndAs more relevant.
+        if (predicate.equals(activePredicate) && !(predicate instanceof RankedQueryPredicate)) {
+            return;
+        }
+        activePredicate = predicate;
+
+        // a read-only deck has no search index, so its qAndAs are decoded and tested one by one
+        if (isMedmoriserReadOnly() && predicate instanceof RankedQueryPredicate) {
+            filterByRank(predicate, ((RankedQueryPredicate) predicate).rank(readOnlyDeck.getQAndAList()));
+            return;
+        }
+        if (isMedmoriserReadOnly() || !(predicate instanceof IndexedPredicate)) {
+            shownQAndAs.setComparator(null);
+            filteredQAndAS.setPredicate(predicate);
+            return;
+        }
+
+        long generation = medmoriser.getGeneration();
+        Optional<List<Long>> cachedIds = queryResultCache.get(predicate, generation);
+        List<Long> matchIds = cachedIds.orElseGet(() -> findMatchIds((IndexedPredicate) predicate));
+        if (cachedIds.isEmpty()) {
+            queryResultCache.put(predicate, generation, matchIds);
+        }
+        logger.fine("Query result cache hits: " + queryResultCache.getHits()
+                + ", misses: " + queryResultCache.getMisses());
+
+        if (predicate instanceof RankedQueryPredicate) {
+            filterByRank(predicate, matchIds);
+            return;
+        }
+        shownQAndAs.setComparator(null);
+        filterByMatches(predicate, toQAndAs(matchIds));
+    }
+
+    /**
+     * Returns the ids of the qAndAs matching {@code predicate}, most relevant first if it is ranked.
+     */
+    private List<Long> findMatchIds(IndexedPredicate predicate) {
+        if (predicate instanceof RankedQueryPredicate) {
+            return ((RankedQueryPredicate) predicate).rank(medmoriser.getSearchIndex());
+        }
+
+        List<Long> matchIds = new ArrayList<>();
+        Optional<Set<Long>> candidateIds = predicate.getCandidateIds(medmoriser.getSearchIndex());
+        if (candidateIds.isEmpty()) {
+            medmoriser.getQAndAList().stream().filter(predicate).forEach(qAndA -> matchIds.add(qAndA.getId()));
+            return matchIds;
+        }
+        // only the candidates need to be tested
+        for (long id : candidateIds.get()) {
+            QAndA candidate = medmoriser.getQAndA(id);
+            if (candidate != null && predicate.test(candidate)) {
+                matchIds.add(id);
+            }
+        }
+        logger.fine("Resolved " + matchIds.size() + " matches from " + candidateIds.get().size() + " candidates");
+        return matchIds;
+    }
+
+    private List<QAndA> toQAndAs(List<Long> ids) {
+        List<QAndA> qAndAs = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            qAndAs.add(medmoriser.getQAndA(id));
+        }
+        return qAndAs;
+    }
+
+    /**
+     * Filters the qAndA list down to the qAndAs with the given {@code rankedIds}, and shows them in that order.
+     * QAndAs that match {@code predicate} later, when added or edited, are shown after them.
+     */
+    private void filterByRank(Predicate<QAndA> predicate, List<Long> rankedIds) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (long id : rankedIds) {
+            ranks.put(id, ranks.size());
+        }
+        if (isMedmoriserReadOnly()) {
+            // no qAndA of a read-only deck can match later, and its qAndAs cannot be looked up by id
+            filteredQAndAS.setPredicate(qAndA -> ranks.containsKey(qAndA.getId()));
+        } else {
+            filterByMatches(predicate, toQAndAs(rankedIds));
+        }
+        shownQAndAs.setComparator(Comparator.comparingInt(qAndA -> ranks.getOrDefault(qAndA.getId(), ranks.size())));
+    }
+
+    @Override
+    public long getQueryCacheHits() {
+        return queryResultCache.getHits();
+    }
+
+    @Override
+    public long getQueryCacheMisses() {
+        return queryResultCache.getMisses();
+    }
+
+    //=========== Quiz ======================================================================================
+
+    @Override
+    public void setQuizQAndA(QAndA qAndA) {
+        requireNonNull(qAndA);
+        quizQAndAId = OptionalLong.of(qAndA.getId());
+        isQuizAnswerShown = false;
+    }
+
+    @Override
+    public void clearQuizQAndA() {
+        quizQAndAId = OptionalLong.empty();
+        isQuizAnswerShown = false;
+    }
+
+    @Override
+    public boolean isQuizQAndA(QAndA qAndA) {
+        return quizQAndAId.isPresent() && quizQAndAId.getAsLong() == qAndA.getId();
+    }
+
+    @Override
+    public void setQuizAnswerShown() {
+        isQuizAnswerShown = quizQAndAId.isPresent();
+    }
+
+    @Override
+    public boolean isQuizAnswerShown() {
+        return isQuizAnswerShown;
+    }
+
+    private void filterByMatches(Predicate<QAndA> predicate, List<QAndA> matches) {
+        ResolvedPredicate resolvedPredicate = new ResolvedPredicate(predicate, matches);
+        filteredQAndAS.setPredicate(resolvedPredicate);
+        resolvedPredicate.release();
     }
 
     @Override
@@ -144,6 +334,7 @@ public class ModelManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return medmoriser.equals(other.medmoriser)
+                && Objects.equals(readOnlyDeck, other.readOnlyDeck)
                 && userPrefs.equals(other.userPrefs)
                 && filteredQAndAS.equals(other.filteredQAndAS);
     }
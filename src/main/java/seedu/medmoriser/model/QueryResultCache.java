@@ -0,0 +1,117 @@
+package seedu.medmoriser.model;
+
+import static seedu.medmoriser.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.medmoriser.commons.util.LruCache;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.RankedQueryPredicate;
+
+/**
+ * Remembers the ids of the qAndAs matching recent searches, so that repeating a search does not evaluate it again.
+ * <p>
+ * Searches are keyed by their predicates, which must implement {@code equals} and {@code hashCode}. Each result
+ * is tagged with the generation of the medmoriser it was worked out from, and is only returned for that generation.
+ * When a single qAndA is added, edited or deleted, the results are patched by testing only that qAndA, except for
+ * ranked results, which depend on every qAndA and are dropped instead.
+ */
+public class QueryResultCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final LruCache<Predicate<QAndA>, Result> results;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates an empty cache holding the results of at most {@code capacity} searches.
+     */
+    public QueryResultCache(int capacity) {
+        results = new LruCache<>(capacity);
+    }
+
+    /**
+     * Returns the ids of the qAndAs matching {@code predicate} in the given {@code generation} of the medmoriser,
+     * in the order they were cached in, if they are cached.
+     */
+    public Optional<List<Long>> get(Predicate<QAndA> predicate, long generation) {
+        Result result = results.get(predicate);
+        if (result == null || result.generation != generation) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(new ArrayList<>(result.ids));
+    }
+
+    /**
+     * Caches {@code ids} as the ids of the qAndAs matching {@code predicate} in the given {@code generation} of the
+     * medmoriser.
+     */
+    public void put(Predicate<QAndA> predicate, long generation, List<Long> ids) {
+        requireAllNonNull(predicate, ids);
+        results.put(predicate, new Result(generation, ids));
+    }
+
+    /**
+     * Brings the results cached for {@code oldGeneration} up to {@code newGeneration}, the generation after
+     * {@code removed} was replaced by {@code added}. Either of them is null if a qAndA was only added or removed.
+     * Every other result is dropped.
+     */
+    public void update(long oldGeneration, long newGeneration, QAndA removed, QAndA added) {
+        results.removeIf((predicate, result) -> {
+            if (result.generation != oldGeneration || predicate instanceof RankedQueryPredicate) {
+                return true;
+            }
+            if (removed != null) {
+                result.ids.remove(removed.getId());
+            }
+            if (added != null && predicate.test(added)) {
+                result.ids.add(added.getId());
+            }
+            result.generation = newGeneration;
+            return false;
+        });
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * Returns the number of searches whose results were found in the cache.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of searches whose results had to be worked out.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * The ids matching a search, and the generation of the medmoriser they match in.
+     */
+    private static class Result {
+
+        private final Set<Long> ids;
+        private long generation;
+
+        Result(long generation, List<Long> ids) {
+            this.generation = generation;
+            this.ids = new LinkedHashSet<>(ids);
+        }
+    }
+}
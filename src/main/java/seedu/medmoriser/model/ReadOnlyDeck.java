@@ -0,0 +1,19 @@
+package seedu.medmoriser.model;
+
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * A medmoriser that can never be modified, such as a reference bank shipped to students.
+ * Its qAndAs may be decoded only when they are accessed, so a model shows it as it is
+ * instead of copying it into a {@link Medmoriser}, and rejects every change to it.
+ */
+public interface ReadOnlyDeck extends ReadOnlyMedmoriser {
+
+    /**
+     * Returns true if a qAndA with the same identity as {@code qAndA} is in the deck.
+     * This decodes every qAndA, so a deck holding many should answer from an index instead.
+     */
+    default boolean hasQAndA(QAndA qAndA) {
+        return getQAndAList().stream().anyMatch(qAndA::isSameQAndA);
+    }
+}
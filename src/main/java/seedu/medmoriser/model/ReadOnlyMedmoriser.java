@@ -1,5 +1,7 @@
 package seedu.medmoriser.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.medmoriser.model.qanda.QAndA;
 
@@ -14,4 +16,12 @@ public interface ReadOnlyMedmoriser {
      */
     ObservableList<QAndA> getQAndAList();
 
+    /**
+     * Returns the position this medmoriser has reached in its log of changes, if it keeps one.
+     * Storage can then follow on from an earlier position by writing only the qAndAs changed since.
+     */
+    default Optional<ChangeLog.Position> getChangeLogPosition() {
+        return Optional.empty();
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.medmoriser.model;
 
 import java.nio.file.Path;
 
+import seedu.medmoriser.commons.core.DataFileFormat;
 import seedu.medmoriser.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,25 @@ public interface ReadOnlyUserPrefs {
 
     Path getMedmoriserFilePath();
 
+    /**
+     * Returns true if the medmoriser data file should be saved without indentation, making it smaller.
+     */
+    boolean isDataFileCompact();
+
+    /**
+     * Returns the way the medmoriser data file should be stored.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns true if invalid or duplicated qAndAs in the json data file should be set aside when loading it,
+     * so that the rest of the file still loads.
+     */
+    boolean isQuarantiningInvalidQAndAs();
+
+    /**
+     * Returns the path of the file listing the keywords that find should treat as meaning the same.
+     */
+    Path getSynonymsFilePath();
+
 }
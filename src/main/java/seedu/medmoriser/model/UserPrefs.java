@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.medmoriser.commons.core.DataFileFormat;
 import seedu.medmoriser.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path medmoriserFilePath = Paths.get("data" , "medmoriser.json");
+    private boolean isDataFileCompact = false;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private boolean isQuarantiningInvalidQAndAs = false;
+    private Path synonymsFilePath = Paths.get("data", "synonyms.txt");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setMedmoriserFilePath(newUserPrefs.getMedmoriserFilePath());
+        setDataFileCompact(newUserPrefs.isDataFileCompact());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setQuarantiningInvalidQAndAs(newUserPrefs.isQuarantiningInvalidQAndAs());
+        setSynonymsFilePath(newUserPrefs.getSynonymsFilePath());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +65,40 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.medmoriserFilePath = medmoriserFilePath;
     }
 
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public boolean isQuarantiningInvalidQAndAs() {
+        return isQuarantiningInvalidQAndAs;
+    }
+
+    public void setQuarantiningInvalidQAndAs(boolean isQuarantiningInvalidQAndAs) {
+        this.isQuarantiningInvalidQAndAs = isQuarantiningInvalidQAndAs;
+    }
+
+    public Path getSynonymsFilePath() {
+        return synonymsFilePath;
+    }
+
+    public void setSynonymsFilePath(Path synonymsFilePath) {
+        requireNonNull(synonymsFilePath);
+        this.synonymsFilePath = synonymsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +111,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && medmoriserFilePath.equals(o.medmoriserFilePath);
+                && medmoriserFilePath.equals(o.medmoriserFilePath)
+                && isDataFileCompact == o.isDataFileCompact
+                && dataFileFormat == o.dataFileFormat
+                && isQuarantiningInvalidQAndAs == o.isQuarantiningInvalidQAndAs
+                && synonymsFilePath.equals(o.synonymsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, medmoriserFilePath);
+        return Objects.hash(guiSettings, medmoriserFilePath, isDataFileCompact, dataFileFormat,
+                isQuarantiningInvalidQAndAs, synonymsFilePath);
     }
 
     @Override
@@ -81,6 +129,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + medmoriserFilePath);
+        sb.append("\nCompact data file : " + isDataFileCompact);
+        sb.append("\nData file format : " + dataFileFormat);
+        sb.append("\nQuarantine invalid qAndAs : " + isQuarantiningInvalidQAndAs);
+        sb.append("\nSynonyms file location : " + synonymsFilePath);
         return sb.toString();
     }
 
@@ -0,0 +1,38 @@
+package seedu.medmoriser.model.qanda;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.medmoriser.model.search.Analyzer;
+
+/**
+ * The analyzed terms of a question or answer, together with the {@link Analyzer} that produced them, so that
+ * they are worked out again if the default analyzer is replaced.
+ * The terms are interned, since the same few terms recur across every qAndA in a bank.
+ */
+final class AnalyzedTerms {
+
+    private final Analyzer analyzer;
+    private final List<String> terms;
+
+    /**
+     * Analyzes {@code lowerCasedText}, which must already be lower-cased, with {@code analyzer}.
+     */
+    AnalyzedTerms(Analyzer analyzer, String lowerCasedText) {
+        List<String> analyzed = analyzer.analyzeLowerCased(lowerCasedText);
+        analyzed.replaceAll(String::intern);
+        this.analyzer = analyzer;
+        this.terms = Collections.unmodifiableList(analyzed);
+    }
+
+    /**
+     * Returns true if these are the terms {@code analyzer} produces.
+     */
+    boolean isAnalyzedBy(Analyzer analyzer) {
+        return this.analyzer == analyzer;
+    }
+
+    List<String> getTerms() {
+        return terms;
+    }
+}
@@ -3,11 +3,16 @@ package seedu.medmoriser.model.qanda;
 import static java.util.Objects.requireNonNull;
 import static seedu.medmoriser.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.medmoriser.model.search.Analyzer;
+
 /**
  * Represents a qAndA's answer in the question bank.
  * Guarantees: immutable; is valid as declared in {@link #isValidAnswer(String)}
  */
-public class Answer {
+public class Answer implements AnswerHandle {
 
     public static final String MESSAGE_CONSTRAINTS = "Answer can take any values, and it should not be blank";
 
@@ -16,9 +21,14 @@ public class Answer {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String answer;
 
+    private String lowerCased;
+
+    private AnalyzedTerms analyzedTerms;
+
     /**
      * Constructs an {@code answer}.
      *
@@ -34,7 +44,37 @@ public class Answer {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAnswer(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the answer in lower case.
+     * The result is computed on first use and cached, since searches compare against it repeatedly.
+     */
+    public String getLowerCased() {
+        if (lowerCased == null) {
+            lowerCased = answer.toLowerCase();
+        }
+        return lowerCased;
+    }
+
+    /**
+     * Returns the terms {@code analyzer} analyzes the answer into, in order of appearance.
+     * Like {@link #getLowerCased()}, the result is computed on first use and cached, so that each search that tests
+     * the answer does not analyze it again.
+     */
+    public List<String> getTerms(Analyzer analyzer) {
+        AnalyzedTerms terms = analyzedTerms;
+        if (terms == null || !terms.isAnalyzedBy(analyzer)) {
+            terms = new AnalyzedTerms(analyzer, getLowerCased());
+            analyzedTerms = terms;
+        }
+        return terms.getTerms();
+    }
+
+    @Override
+    public Answer load() {
+        return this;
     }
 
     @Override
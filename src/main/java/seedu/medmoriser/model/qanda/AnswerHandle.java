@@ -0,0 +1,16 @@
+package seedu.medmoriser.model.qanda;
+
+/**
+ * Gives access to a qAndA's answer.
+ * An {@link Answer} is its own handle. Other handles keep the answer out of memory, e.g. in the data file,
+ * and load it each time it is needed, so they must always load an equal answer.
+ * Handles that are equal must load equal answers, which lets qAndAs be compared without loading them.
+ */
+public interface AnswerHandle {
+
+    /**
+     * Returns the answer, loading it if needed.
+     */
+    Answer load();
+
+}
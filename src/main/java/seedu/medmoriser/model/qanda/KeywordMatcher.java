@@ -0,0 +1,65 @@
+package seedu.medmoriser.model.qanda;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.medmoriser.model.search.Analyzer;
+
+/**
+ * Matches a keyword as a whole word, ignoring case, or any of the phrases the {@link Analyzer} expands it into
+ * as consecutive analyzed terms.
+ * The word-boundary pattern and the expansion are worked out once, when the matcher is created, rather than on every
+ * comparison.
+ */
+class KeywordMatcher {
+
+    private final String lowerCasedKeyword;
+    private final Pattern pattern;
+    private final List<List<String>> phrases;
+
+    /**
+     * Creates a matcher for {@code keyword}, expanded by {@code analyzer}.
+     */
+    KeywordMatcher(String keyword, Analyzer analyzer) {
+        requireNonNull(keyword);
+        lowerCasedKeyword = keyword.toLowerCase();
+        pattern = Pattern.compile("\\b" + Pattern.quote(lowerCasedKeyword) + "\\b");
+        phrases = analyzer.expand(keyword);
+    }
+
+    /**
+     * Returns matchers for each of {@code keywords}, in the same order.
+     */
+    static List<KeywordMatcher> compileAll(List<String> keywords, Analyzer analyzer) {
+        return keywords.stream().map(keyword -> new KeywordMatcher(keyword, analyzer)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the phrases each of {@code matchers} looks for, with an empty phrase for a keyword without terms.
+     */
+    static List<List<String>> phrasesOf(List<KeywordMatcher> matchers) {
+        List<List<String>> phrases = new ArrayList<>();
+        for (KeywordMatcher matcher : matchers) {
+            if (matcher.phrases.isEmpty()) {
+                phrases.add(Collections.emptyList());
+            }
+            phrases.addAll(matcher.phrases);
+        }
+        return phrases;
+    }
+
+    /**
+     * Returns true if the keyword occurs as a whole word in {@code lowerCasedText}, which must already be lower-cased,
+     * or one of its phrases occurs in {@code analyzedTerms}, the analyzed terms of the same text.
+     */
+    boolean matches(String lowerCasedText, List<String> analyzedTerms) {
+        // most texts do not contain the keyword at all, which a plain substring search rules out cheaply
+        return (lowerCasedText.contains(lowerCasedKeyword) && pattern.matcher(lowerCasedText).find())
+                || phrases.stream().anyMatch(phrase -> Analyzer.containsPhrase(analyzedTerms, phrase));
+    }
+}
@@ -2,38 +2,57 @@ package seedu.medmoriser.model.qanda;
 
 import static seedu.medmoriser.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.medmoriser.model.tag.Tag;
+import seedu.medmoriser.model.tag.TagDictionary;
 
 /**
  * Represents a QuestionSet in the Question bank.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every QAndA carries a stable numeric id that survives edits and is persisted with it, but
+ * the id takes no part in {@link #equals(Object)} or {@link #isSameQAndA(QAndA)}.
  */
 public class QAndA {
 
+    private static final AtomicLong ID_SEQUENCE = new AtomicLong();
+
+    private final long id;
+
     // Identity fields
     private final Question question;
-    private boolean isQuiz = false;
-    private boolean isQuizAnswer = false;
-    private boolean beenAnswered = false;
 
     // Data fields
-    private final Answer answer;
-    private final Set<Tag> tags = new HashSet<>();
+    private final AnswerHandle answer;
+    private final int[] tagIds;
 
     /**
      * If all fields are present:
      * Every field must be present and not null.
      */
     public QAndA(Question question, Answer answer, Set<Tag> tags) {
+        this(ID_SEQUENCE.incrementAndGet(), question, answer, tags);
+    }
+
+    /**
+     * Creates a QAndA with an existing {@code id}, e.g. one read from storage or kept across an edit.
+     * Ids handed out afterwards are guaranteed to be greater than {@code id}.
+     * The answer may be a handle that loads it on demand, see {@link AnswerHandle}.
+     */
+    public QAndA(long id, Question question, AnswerHandle answer, Set<Tag> tags) {
         requireAllNonNull(question, answer, tags);
+        this.id = id;
         this.question = question;
         this.answer = answer;
-        this.tags.addAll(tags);
+        this.tagIds = TagDictionary.toSortedIds(tags);
+        ID_SEQUENCE.accumulateAndGet(id, Math::max);
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Question getQuestion() {
@@ -41,44 +60,16 @@ public class QAndA {
     }
 
     public Answer getAnswer() {
-        return answer;
-    }
-
-    public Boolean getIsQuiz() {
-        return this.isQuiz;
-    }
-
-    public Boolean getIsQuizAnswer() {
-        return this.isQuizAnswer;
-    }
-
-    public void setQuizAnswer() {
-        this.isQuizAnswer = true;
-    }
-
-    public void setAsQuiz() {
-        this.isQuiz = true;
-    }
-
-    public void setNotQuiz() {
-        this.isQuiz = false;
-        this.isQuizAnswer = false;
-    }
-
-    public void setBeenAnswered() {
-        beenAnswered = true;
-    }
-
-    public void setNotBeenAnswered() {
-        beenAnswered = false;
+        return answer.load();
     }
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
+     * The tags are held as ids from the {@link TagDictionary}, and iterate in the order they were first interned.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return TagDictionary.asSet(tagIds);
     }
 
     /**
@@ -109,15 +100,16 @@ public class QAndA {
         }
 
         QAndA otherQAndA = (QAndA) other;
+        // equal handles load equal answers, so the answers are only loaded to compare different handles
         return otherQAndA.getQuestion().equals(getQuestion())
-                && otherQAndA.getAnswer().equals(getAnswer())
-                && otherQAndA.getTags().equals(getTags());
+                && Arrays.equals(otherQAndA.tagIds, tagIds)
+                && (otherQAndA.answer.equals(answer) || otherQAndA.getAnswer().equals(getAnswer()));
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(question, answer, tags);
+        // the answer is left out so that hashing does not load it; the question and tags tell qAndAs apart
+        return Objects.hash(question, Arrays.hashCode(tagIds));
     }
 
     @Override
@@ -1,27 +1,50 @@
 package seedu.medmoriser.model.qanda;
 
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.medmoriser.model.search.Analyzer;
+import seedu.medmoriser.model.search.IndexedPredicate;
+import seedu.medmoriser.model.search.SearchIndex;
+import seedu.medmoriser.model.search.SearchIndex.Field;
 
 /**
  * Tests that a {@code QandA}'s {@code Question or Answer} matches any of the keywords given.
  */
-public class QAndAContainsKeywordsPredicate implements Predicate<QAndA> {
+public class QAndAContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Analyzer analyzer = Analyzer.getDefault();
+    private final List<KeywordMatcher> matchers;
+    private final List<List<String>> phrases;
 
     public QAndAContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matchers = KeywordMatcher.compileAll(keywords, analyzer);
+        this.phrases = KeywordMatcher.phrasesOf(matchers);
     }
 
     @Override
     public boolean test(QAndA qAndA) {
-        return keywords.stream()
-                .anyMatch(keyword -> qAndA.getQuestion().question.toLowerCase()
-                        .matches((".*\\b" + Pattern.quote(keyword.toLowerCase()) + "\\b.*"))
-                        || qAndA.getAnswer().answer.toLowerCase()
-                                .matches((".*\\b" + Pattern.quote(keyword.toLowerCase()) + "\\b.*"))
-                );
+        // the answer is only loaded and analyzed if the question does not match
+        Question question = qAndA.getQuestion();
+        if (matchers.stream().anyMatch(matcher -> matcher.matches(question.getLowerCased(),
+                question.getTerms(analyzer)))) {
+            return true;
+        }
+        Answer answer = qAndA.getAnswer();
+        return matchers.stream().anyMatch(matcher -> matcher.matches(answer.getLowerCased(),
+                answer.getTerms(analyzer)));
+    }
+
+    @Override
+    public Optional<Set<Long>> getCandidateIds(SearchIndex index) {
+        return index.findCandidates(phrases, Field.QUESTION, Field.ANSWER);
+    }
+
+    @Override
+    public int estimateCandidateCount(SearchIndex index) {
+        return index.estimateCandidates(phrases, Field.QUESTION, Field.ANSWER);
     }
 
     @Override
@@ -31,4 +54,9 @@ public class QAndAContainsKeywordsPredicate implements Predicate<QAndA> {
                 && keywords.equals(((QAndAContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
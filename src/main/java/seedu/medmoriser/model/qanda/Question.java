@@ -3,6 +3,11 @@ package seedu.medmoriser.model.qanda;
 import static java.util.Objects.requireNonNull;
 import static seedu.medmoriser.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.medmoriser.model.search.Analyzer;
+
 /**
  * Represents a QuestionSet's question in the question bank.
  * Guarantees: immutable; is valid as declared in {@link #isValidQuestion(String)}
@@ -17,9 +22,14 @@ public class Question {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String question;
 
+    private String lowerCased;
+
+    private AnalyzedTerms analyzedTerms;
+
     /**
      * Constructs a {@code Question}.
      *
@@ -35,9 +45,34 @@ public class Question {
      * Returns true if a given string is a valid question.
      */
     public static boolean isValidQuestion(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+
+    /**
+     * Returns the question in lower case.
+     * The result is computed on first use and cached, since searches compare against it repeatedly.
+     */
+    public String getLowerCased() {
+        if (lowerCased == null) {
+            lowerCased = question.toLowerCase();
+        }
+        return lowerCased;
     }
 
+    /**
+     * Returns the terms {@code analyzer} analyzes the question into, in order of appearance.
+     * Like {@link #getLowerCased()}, the result is computed on first use and cached, so that each search that tests
+     * the question does not analyze it again.
+     */
+    public List<String> getTerms(Analyzer analyzer) {
+        AnalyzedTerms terms = analyzedTerms;
+        if (terms == null || !terms.isAnalyzedBy(analyzer)) {
+            terms = new AnalyzedTerms(analyzer, getLowerCased());
+            analyzedTerms = terms;
+        }
+        return terms.getTerms();
+    }
 
     @Override
     public String toString() {
@@ -1,24 +1,44 @@
 package seedu.medmoriser.model.qanda;
 
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.medmoriser.model.search.Analyzer;
+import seedu.medmoriser.model.search.IndexedPredicate;
+import seedu.medmoriser.model.search.SearchIndex;
+import seedu.medmoriser.model.search.SearchIndex.Field;
 
 /**
  * Tests that a {@code QAndA}'s {@code Question} matches any of the keywords given.
  */
-public class QuestionContainsKeywordsPredicate implements Predicate<QAndA> {
+public class QuestionContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Analyzer analyzer = Analyzer.getDefault();
+    private final List<KeywordMatcher> matchers;
+    private final List<List<String>> phrases;
 
     public QuestionContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matchers = KeywordMatcher.compileAll(keywords, analyzer);
+        this.phrases = KeywordMatcher.phrasesOf(matchers);
     }
 
     @Override
     public boolean test(QAndA qAndA) {
-        return keywords.stream()
-                .anyMatch(keyword -> qAndA.getQuestion().question.toLowerCase()
-                            .matches((".*\\b" + Pattern.quote(keyword.toLowerCase()) + "\\b.*")));
+        Question question = qAndA.getQuestion();
+        return matchers.stream().anyMatch(matcher -> matcher.matches(question.getLowerCased(),
+                question.getTerms(analyzer)));
+    }
+
+    @Override
+    public Optional<Set<Long>> getCandidateIds(SearchIndex index) {
+        return index.findCandidates(phrases, Field.QUESTION);
+    }
+
+    @Override
+    public int estimateCandidateCount(SearchIndex index) {
+        return index.estimateCandidates(phrases, Field.QUESTION);
     }
 
     @Override
@@ -28,4 +48,9 @@ public class QuestionContainsKeywordsPredicate implements Predicate<QAndA> {
                 && keywords.equals(((QuestionContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
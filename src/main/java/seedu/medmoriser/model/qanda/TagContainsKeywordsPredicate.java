@@ -1,39 +1,71 @@
 package seedu.medmoriser.model.qanda;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import seedu.medmoriser.model.search.IndexedPredicate;
+import seedu.medmoriser.model.search.SearchIndex;
 import seedu.medmoriser.model.tag.Tag;
 
 /**
  * Tests that a {@code QAndA}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<QAndA> {
+public class TagContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Set<String> lowerCasedKeywords;
 
+    /**
+     * Creates a predicate matching qAndAs with any of the tags in {@code keywords}, ignoring case.
+     * An empty list, or a list starting with "t" (from a bare {@code t/}), matches the untagged qAndAs instead.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCasedKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toSet());
+    }
+
+    private boolean isFindingUntagged() {
+        return keywords.size() == 0 || keywords.get(0).equals("t");
     }
 
     @Override
     public boolean test(QAndA qAndA) {
-        if (keywords.size() == 0 || keywords.get(0).equals("t")) {
-            Set<Tag> tags = qAndA.getTags();
+        Set<Tag> tags = qAndA.getTags();
+        if (isFindingUntagged()) {
             return tags.isEmpty();
-        } else {
-            return keywords.stream()
-                    .anyMatch(keyword -> {
-                        Set<Tag> tags = qAndA.getTags();
-                        for (Tag tag : tags) {
-                            String lowercase = tag.tagName.toLowerCase();
-                            if (lowercase.equals(keyword.toLowerCase())) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    });
         }
+        for (Tag tag : tags) {
+            if (lowerCasedKeywords.contains(tag.tagName.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Set<Long>> getCandidateIds(SearchIndex index) {
+        if (isFindingUntagged()) {
+            return Optional.of(index.getUntagged());
+        }
+        Set<Long> candidates = new HashSet<>();
+        for (String keyword : lowerCasedKeywords) {
+            candidates.addAll(index.getTagPostings(keyword));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public int estimateCandidateCount(SearchIndex index) {
+        if (isFindingUntagged()) {
+            return index.getUntagged().size();
+        }
+        long estimate = 0;
+        for (String keyword : lowerCasedKeywords) {
+            estimate += index.getTagPostings(keyword).size();
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE - 1);
     }
 
     @Override
@@ -43,4 +75,9 @@ public class TagContainsKeywordsPredicate implements Predicate<QAndA> {
                 && keywords.equals(((TagContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
@@ -3,8 +3,11 @@ package seedu.medmoriser.model.qanda;
 import static java.util.Objects.requireNonNull;
 import static seedu.medmoriser.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,14 @@ import seedu.medmoriser.model.qanda.exceptions.QAndANotFoundException;
  * of a questionSet uses QuestionSet#equals(Object) so as to ensure that the questionSet
  * with exactly the same fields will be removed.
  *
+ * A question-keyed index and an id-keyed index are kept alongside the backing list so that identity checks and
+ * lookups do not need to scan the whole list. Ids are unique within the list.
+ * The position of each qAndA in the backing list is also remembered, but lazily: a removal shifts every later
+ * qAndA one place to the left without updating their positions, so a remembered position is at most the number
+ * of removals since the positions were last rebuilt to the right of the real one. The positions are rebuilt once
+ * that number exceeds the square root of the size of the list, so a removal costs O(sqrt n) map updates and
+ * comparisons on average, rather than one map update for every later qAndA.
+ *
  * Supports a minimal set of list operations.
  *
  * @see QAndA#isSameQAndA(QAndA)
@@ -29,13 +40,17 @@ public class UniqueQAndAList implements Iterable<QAndA> {
     private final ObservableList<QAndA> internalList = FXCollections.observableArrayList();
     private final ObservableList<QAndA> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Question, QAndA> questionIndex = new HashMap<>();
+    private final Map<Long, QAndA> idIndex = new HashMap<>();
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int removalsSinceRebuild = 0;
 
     /**
      * Returns true if the list contains an equivalent qAndA as the given argument.
      */
     public boolean contains(QAndA toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameQAndA);
+        return questionIndex.containsKey(toCheck.getQuestion());
     }
 
     /**
@@ -44,10 +59,20 @@ public class UniqueQAndAList implements Iterable<QAndA> {
      */
     public void add(QAndA toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || idIndex.containsKey(toAdd.getId())) {
             throw new DuplicateQAndAException();
         }
         internalList.add(toAdd);
+        questionIndex.put(toAdd.getQuestion(), toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
+        positions.put(toAdd.getId(), internalList.size() - 1);
+    }
+
+    /**
+     * Returns the qAndA with the given {@code id}, or {@code null} if there is none.
+     */
+    public QAndA get(long id) {
+        return idIndex.get(id);
     }
 
     /**
@@ -55,49 +80,138 @@ public class UniqueQAndAList implements Iterable<QAndA> {
      * {@code target} must exist in the list.
      * The questionSet identity of {@code editedQuestionSet} must not be the same as another existing
      * questionSet in the list.
+     *
+     * @return the qAndA in the list that was replaced, which is equal to {@code target}.
      */
-    public void setQAndA(QAndA target, QAndA editedQAndA) {
+    public QAndA setQAndA(QAndA target, QAndA editedQAndA) {
         requireAllNonNull(target, editedQAndA);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new QAndANotFoundException();
-        }
-
+        QAndA resident = findResident(target);
         if (!target.isSameQAndA(editedQAndA) && contains(editedQAndA)) {
             throw new DuplicateQAndAException();
         }
+        if (resident.getId() != editedQAndA.getId() && idIndex.containsKey(editedQAndA.getId())) {
+            throw new DuplicateQAndAException();
+        }
 
+        int index = findPosition(resident);
         internalList.set(index, editedQAndA);
+        questionIndex.remove(resident.getQuestion());
+        questionIndex.put(editedQAndA.getQuestion(), editedQAndA);
+        idIndex.remove(resident.getId());
+        idIndex.put(editedQAndA.getId(), editedQAndA);
+        positions.remove(resident.getId());
+        positions.put(editedQAndA.getId(), index);
+        return resident;
     }
 
     /**
      * Removes the equivalent qAndA from the list.
      * The qAndA must exist in the list.
+     *
+     * @return the qAndA in the list that was removed, which is equal to {@code toRemove}.
      */
-    public void remove(QAndA toRemove) {
+    public QAndA remove(QAndA toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        QAndA resident = findResident(toRemove);
+
+        int index = findPosition(resident);
+        internalList.remove(index);
+        questionIndex.remove(resident.getQuestion());
+        idIndex.remove(resident.getId());
+        positions.remove(resident.getId());
+        removalsSinceRebuild++;
+        if ((long) removalsSinceRebuild * removalsSinceRebuild > internalList.size()) {
+            rebuildPositions();
+        }
+        return resident;
+    }
+
+    /**
+     * Returns the position of {@code resident} in the backing list, which lies at most
+     * {@code removalsSinceRebuild} places to the left of its remembered position.
+     */
+    private int findPosition(QAndA resident) {
+        int remembered = positions.get(resident.getId());
+        int lowest = Math.max(0, remembered - removalsSinceRebuild);
+        for (int i = Math.min(remembered, internalList.size() - 1); i >= lowest; i--) {
+            if (internalList.get(i) == resident) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Remembered position of qAndA " + resident.getId() + " is out of date");
+    }
+
+    private void rebuildPositions() {
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        removalsSinceRebuild = 0;
+    }
+
+    /**
+     * Returns the qAndA in the list that is equal to {@code qAndA}.
+     * The lookup is by id, falling back to the question index when {@code qAndA} is an equal copy.
+     *
+     * @throws QAndANotFoundException if there is no such qAndA.
+     */
+    private QAndA findResident(QAndA qAndA) {
+        QAndA resident = get(qAndA.getId());
+        if (resident == qAndA) {
+            return resident;
+        }
+
+        resident = questionIndex.get(qAndA.getQuestion());
+        if (resident == null || !resident.equals(qAndA)) {
             throw new QAndANotFoundException();
         }
+        return resident;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setQAndAs(UniqueQAndAList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        questionIndex.clear();
+        questionIndex.putAll(replacement.questionIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        removalsSinceRebuild = replacement.removalsSinceRebuild;
     }
 
     /**
      * Replaces the contents of this list with {@code qAndAs}.
      * {@code qAndAs} must not contain duplicate qAndAs.
+     * Uniqueness is validated in a single hashed pass and listeners are notified of a single change.
+     *
+     * @throws DuplicateQAndAException reporting every duplicate in {@code qAndAs}.
      */
     public void setQAndAs(List<QAndA> qAndAs) {
         requireAllNonNull(qAndAs);
-        if (!questionSetsAreUnique(qAndAs)) {
-            throw new DuplicateQAndAException();
+        Map<Question, QAndA> replacementIndex = new HashMap<>(capacityFor(qAndAs.size()));
+        Map<Long, QAndA> replacementIdIndex = new HashMap<>(capacityFor(qAndAs.size()));
+        List<QAndA> duplicates = new ArrayList<>();
+        for (QAndA qAndA : qAndAs) {
+            if (replacementIndex.putIfAbsent(qAndA.getQuestion(), qAndA) != null
+                    || replacementIdIndex.putIfAbsent(qAndA.getId(), qAndA) != null) {
+                duplicates.add(qAndA);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateQAndAException(duplicates);
         }
 
         internalList.setAll(qAndAs);
+        questionIndex.clear();
+        questionIndex.putAll(replacementIndex);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        rebuildPositions();
     }
 
     /**
@@ -125,16 +239,9 @@ public class UniqueQAndAList implements Iterable<QAndA> {
     }
 
     /**
-     * Returns true if {@code qAndAs} contains only unique qAndAs.
+     * Returns an initial {@code HashMap} capacity that holds {@code size} entries without rehashing.
      */
-    private boolean questionSetsAreUnique(List<QAndA> qAndAs) {
-        for (int i = 0; i < qAndAs.size() - 1; i++) {
-            for (int j = i + 1; j < qAndAs.size(); j++) {
-                if (qAndAs.get(i).isSameQAndA(qAndAs.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
     }
 }
@@ -1,11 +1,49 @@
 package seedu.medmoriser.model.qanda.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.medmoriser.model.qanda.QAndA;
+
 /**
  * Signals that the operation will result in duplicate QAndAs (QAndAs are considered
  * duplicates if they have the same identity).
  */
 public class DuplicateQAndAException extends RuntimeException {
+
+    public static final int MAX_DUPLICATES_IN_MESSAGE = 5;
+
+    private final List<QAndA> duplicates;
+
     public DuplicateQAndAException() {
         super("Operation would result in duplicate QAndAs");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateQAndAException} that reports every qAndA in {@code duplicates}.
+     * Only the questions of the first {@link #MAX_DUPLICATES_IN_MESSAGE} are named in the message, so that a bank
+     * with many duplicates does not produce a message as large as itself.
+     */
+    public DuplicateQAndAException(List<QAndA> duplicates) {
+        super("Operation would result in duplicate QAndAs: " + describe(duplicates));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    private static String describe(List<QAndA> duplicates) {
+        String named = duplicates.stream()
+                .limit(MAX_DUPLICATES_IN_MESSAGE)
+                .map(qAndA -> qAndA.getQuestion().question)
+                .collect(Collectors.joining(", "));
+        int unnamedCount = duplicates.size() - MAX_DUPLICATES_IN_MESSAGE;
+        return unnamedCount > 0 ? named + " and " + unnamedCount + " more" : named;
+    }
+
+    /**
+     * Returns the qAndAs that were found to be duplicates, in the order they were encountered.
+     */
+    public List<QAndA> getDuplicates() {
+        return duplicates;
     }
 }
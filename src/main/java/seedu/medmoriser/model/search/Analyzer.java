@@ -0,0 +1,105 @@
+package seedu.medmoriser.model.search;
+
+import static seedu.medmoriser.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns texts and keywords into the terms they are indexed and searched by.
+ * <p>
+ * A text is split into lower-cased terms by the {@link Tokenizer}, and each term is passed through the
+ * {@link TermFilter}s in order. A keyword is analyzed the same way, and is then expanded into the phrases the
+ * {@link SynonymDictionary} lists as meaning the same, which are analyzed once when the analyzer is created.
+ * <p>
+ * The analyzer used for the index and for searching it must be the same, so the default one is set once on
+ * start-up, before any qAndA is indexed.
+ */
+public class Analyzer {
+
+    public static final List<TermFilter> STANDARD_FILTERS = Collections.singletonList(new Stemmer());
+
+    private static Analyzer defaultAnalyzer = new Analyzer(STANDARD_FILTERS, SynonymDictionary.EMPTY);
+
+    private final List<TermFilter> filters;
+    // each analyzed phrase of the dictionary, joined by spaces, to the analyzed phrases of its groups
+    private final Map<String, Set<List<String>>> expansions = new HashMap<>();
+
+    /**
+     * Creates an analyzer passing terms through {@code filters} and expanding keywords with {@code synonyms}.
+     */
+    public Analyzer(List<TermFilter> filters, SynonymDictionary synonyms) {
+        requireAllNonNull(filters, synonyms);
+        this.filters = new ArrayList<>(filters);
+        for (List<String> group : synonyms.getGroups()) {
+            List<List<String>> phrases = new ArrayList<>();
+            for (String phrase : group) {
+                List<String> terms = analyze(phrase);
+                if (!terms.isEmpty()) {
+                    phrases.add(terms);
+                }
+            }
+            for (List<String> phrase : phrases) {
+                expansions.computeIfAbsent(String.join(" ", phrase), unused -> new LinkedHashSet<>())
+                        .addAll(phrases);
+            }
+        }
+    }
+
+    public static Analyzer getDefault() {
+        return defaultAnalyzer;
+    }
+
+    public static void setDefault(Analyzer analyzer) {
+        defaultAnalyzer = analyzer;
+    }
+
+    /**
+     * Returns the analyzed terms of {@code text}, in order of appearance and including repeats.
+     */
+    public List<String> analyze(String text) {
+        return analyzeLowerCased(text.toLowerCase());
+    }
+
+    /**
+     * Returns the analyzed terms of {@code lowerCasedText}, which must already be lower-cased.
+     */
+    public List<String> analyzeLowerCased(String lowerCasedText) {
+        List<String> terms = Tokenizer.tokenizeLowerCased(lowerCasedText);
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            for (TermFilter filter : filters) {
+                term = filter.filter(term);
+            }
+            terms.set(i, term);
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the phrases {@code keyword} stands for: its own analyzed terms first, followed by those of the phrases
+     * listed as its synonyms. Returns an empty list if {@code keyword} has no terms.
+     */
+    public List<List<String>> expand(String keyword) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<List<String>> phrases = new LinkedHashSet<>();
+        phrases.add(terms);
+        phrases.addAll(expansions.getOrDefault(String.join(" ", terms), Collections.emptySet()));
+        return new ArrayList<>(phrases);
+    }
+
+    /**
+     * Returns true if the terms of {@code phrase} occur one after another in {@code terms}.
+     */
+    public static boolean containsPhrase(List<String> terms, List<String> phrase) {
+        return !phrase.isEmpty() && Collections.indexOfSubList(terms, phrase) != -1;
+    }
+}
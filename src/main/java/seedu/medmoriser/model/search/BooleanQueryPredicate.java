@@ -0,0 +1,170 @@
+package seedu.medmoriser.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * Tests that a {@code QAndA} satisfies a combination of other predicates joined by AND, OR or NOT.
+ * <p>
+ * Its candidates are planned from the {@link SearchIndex}. An AND looks up its most selective operand first, and
+ * then only narrows the candidates further with operands that are cheap to look up compared to testing the
+ * remaining candidates directly. An OR unites the candidates of its operands. A NOT cannot be narrowed down by the
+ * index, so it is only ever tested.
+ */
+public class BooleanQueryPredicate implements IndexedPredicate {
+
+    /**
+     * The ways of combining predicates.
+     */
+    public enum Operator {
+        AND, OR, NOT
+    }
+
+    /**
+     * How many times larger than the current candidates an operand's postings may be for an AND to still intersect
+     * them, rather than leave the operand to be tested against each remaining candidate.
+     */
+    static final int MAX_INTERSECTION_RATIO = 8;
+
+    private final Operator operator;
+    private final List<IndexedPredicate> operands;
+
+    private BooleanQueryPredicate(Operator operator, List<IndexedPredicate> operands) {
+        this.operator = operator;
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    /**
+     * Returns a predicate that is satisfied when all of {@code operands} are.
+     */
+    public static BooleanQueryPredicate and(List<IndexedPredicate> operands) {
+        requireNonNull(operands);
+        return new BooleanQueryPredicate(Operator.AND, operands);
+    }
+
+    /**
+     * Returns a predicate that is satisfied when any of {@code operands} is.
+     */
+    public static BooleanQueryPredicate or(List<IndexedPredicate> operands) {
+        requireNonNull(operands);
+        return new BooleanQueryPredicate(Operator.OR, operands);
+    }
+
+    /**
+     * Returns a predicate that is satisfied when {@code operand} is not.
+     */
+    public static BooleanQueryPredicate not(IndexedPredicate operand) {
+        requireNonNull(operand);
+        return new BooleanQueryPredicate(Operator.NOT, Collections.singletonList(operand));
+    }
+
+    @Override
+    public boolean test(QAndA qAndA) {
+        switch (operator) {
+        case AND:
+            return operands.stream().allMatch(operand -> operand.test(qAndA));
+        case OR:
+            return operands.stream().anyMatch(operand -> operand.test(qAndA));
+        default:
+            return !operands.get(0).test(qAndA);
+        }
+    }
+
+    @Override
+    public Optional<Set<Long>> getCandidateIds(SearchIndex index) {
+        switch (operator) {
+        case AND:
+            return getAndCandidateIds(index);
+        case OR:
+            return getOrCandidateIds(index);
+        default:
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Set<Long>> getAndCandidateIds(SearchIndex index) {
+        int[] estimates = operands.stream().mapToInt(operand -> operand.estimateCandidateCount(index)).toArray();
+        List<Integer> mostSelectiveFirst = IntStream.range(0, operands.size()).boxed()
+                .sorted(Comparator.comparingInt(i -> estimates[i])).collect(Collectors.toList());
+
+        Set<Long> candidates = null;
+        for (int i : mostSelectiveFirst) {
+            if (estimates[i] == Integer.MAX_VALUE) {
+                break; // neither this operand nor the rest can be narrowed down
+            }
+            if (candidates != null && (candidates.isEmpty()
+                    || estimates[i] > (long) candidates.size() * MAX_INTERSECTION_RATIO)) {
+                break; // testing the remaining candidates is cheaper than looking up the rest
+            }
+            Optional<Set<Long>> operandCandidates = operands.get(i).getCandidateIds(index);
+            if (!operandCandidates.isPresent()) {
+                continue;
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(operandCandidates.get());
+            } else {
+                candidates.retainAll(operandCandidates.get());
+            }
+        }
+        return Optional.ofNullable(candidates);
+    }
+
+    private Optional<Set<Long>> getOrCandidateIds(SearchIndex index) {
+        Set<Long> candidates = new HashSet<>();
+        for (IndexedPredicate operand : operands) {
+            Optional<Set<Long>> operandCandidates = operand.getCandidateIds(index);
+            if (!operandCandidates.isPresent()) {
+                return Optional.empty();
+            }
+            candidates.addAll(operandCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public int estimateCandidateCount(SearchIndex index) {
+        switch (operator) {
+        case AND:
+            return operands.stream().mapToInt(operand -> operand.estimateCandidateCount(index))
+                    .min().orElse(Integer.MAX_VALUE);
+        case OR:
+            long estimate = 0;
+            for (IndexedPredicate operand : operands) {
+                int operandEstimate = operand.estimateCandidateCount(index);
+                if (operandEstimate == Integer.MAX_VALUE) {
+                    return Integer.MAX_VALUE;
+                }
+                estimate += operandEstimate;
+            }
+            return (int) Math.min(estimate, Integer.MAX_VALUE - 1);
+        default:
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BooleanQueryPredicate // instanceof handles nulls
+                && operator == ((BooleanQueryPredicate) other).operator
+                && operands.equals(((BooleanQueryPredicate) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, operands);
+    }
+
+}
@@ -0,0 +1,120 @@
+package seedu.medmoriser.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.SearchIndex.Field;
+
+/**
+ * Tests that a {@code QAndA}'s question or answer contains any of the keywords given, allowing each term of a
+ * keyword to be misspelt by a few characters.
+ * <p>
+ * A keyword matches a field if every one of its analyzed terms is within {@link #getMaxEdits(String)} insertions,
+ * deletions or substitutions of a character of some term of that field. The index resolves the keyword terms to the
+ * similarly spelt terms in its dictionary and looks those up, so the cost grows with the number of distinct terms
+ * rather than with the number of qAndAs.
+ */
+public class FuzzyKeywordsPredicate implements IndexedPredicate {
+
+    private final Analyzer analyzer = Analyzer.getDefault();
+    private final List<String> keywords;
+    private final List<List<String>> keywordTerms = new ArrayList<>();
+
+    /**
+     * Creates a predicate matching any of {@code keywords}.
+     */
+    public FuzzyKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = new ArrayList<>(keywords);
+        keywords.forEach(keyword -> keywordTerms.add(analyzer.analyze(keyword)));
+    }
+
+    /**
+     * Returns the number of edits a term may be away from {@code term} and still match it.
+     * Short terms must match exactly, as a single edit already turns them into many unrelated words.
+     */
+    public static int getMaxEdits(String term) {
+        if (term.length() <= 3) {
+            return 0;
+        }
+        return term.length() <= 7 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(QAndA qAndA) {
+        // the answer is only loaded if the question does not match
+        return containsAny(qAndA.getQuestion().getTerms(analyzer))
+                || containsAny(qAndA.getAnswer().getTerms(analyzer));
+    }
+
+    private boolean containsAny(List<String> fieldTerms) {
+        return keywordTerms.stream().filter(terms -> !terms.isEmpty())
+                .anyMatch(terms -> containsAll(fieldTerms, terms));
+    }
+
+    private static boolean containsAll(List<String> fieldTerms, List<String> terms) {
+        return terms.stream().allMatch(term -> fieldTerms.stream()
+                .anyMatch(fieldTerm -> TermDictionary.isWithinEditDistance(term, fieldTerm, getMaxEdits(term))));
+    }
+
+    @Override
+    public Optional<Set<Long>> getCandidateIds(SearchIndex index) {
+        Set<Long> candidates = new HashSet<>();
+        for (List<String> terms : keywordTerms) {
+            if (terms.isEmpty()) {
+                continue;
+            }
+            for (Field field : Field.values()) {
+                candidates.addAll(findContainingAll(index, field, terms));
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the ids of the qAndAs whose {@code field} contains a term similar to each of {@code terms}.
+     */
+    private static Set<Long> findContainingAll(SearchIndex index, Field field, List<String> terms) {
+        Set<Long> result = null;
+        for (String term : terms) {
+            Set<Long> containing = new HashSet<>();
+            for (String similarTerm : index.findSimilarTerms(term, getMaxEdits(term))) {
+                containing.addAll(index.getPostings(field, similarTerm));
+            }
+            if (result == null) {
+                result = containing;
+            } else {
+                result.retainAll(containing);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int estimateCandidateCount(SearchIndex index) {
+        // resolving the similar terms is most of the cost of looking the candidates up, so there is no cheap estimate
+        return Integer.MAX_VALUE - 1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((FuzzyKeywordsPredicate) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+}
@@ -0,0 +1,27 @@
+package seedu.medmoriser.model.search;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * A {@code Predicate} on qAndAs that can narrow down the qAndAs it has to be tested against using a
+ * {@link SearchIndex}.
+ */
+public interface IndexedPredicate extends Predicate<QAndA> {
+
+    /**
+     * Returns the ids of the qAndAs that may satisfy this predicate, which is a superset of the ids of the qAndAs
+     * that do. Returns {@code Optional.empty()} if {@code index} cannot narrow them down.
+     */
+    Optional<Set<Long>> getCandidateIds(SearchIndex index);
+
+    /**
+     * Returns an upper bound on the number of ids {@link #getCandidateIds(SearchIndex)} would return, worked out
+     * cheaply from the sizes of the postings in {@code index}, or {@code Integer.MAX_VALUE} if {@code index} cannot
+     * narrow them down. Query planning uses it to look up the most selective predicates first.
+     */
+    int estimateCandidateCount(SearchIndex index);
+}
@@ -0,0 +1,137 @@
+package seedu.medmoriser.model.search;
+
+import static seedu.medmoriser.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.SearchIndex.Field;
+
+/**
+ * Tests that a {@code QAndA}'s question or answer contains a phrase, or two phrases near each other.
+ * <p>
+ * A phrase occurs in a field if its analyzed terms occur one after another, e.g. "left ventricles" occurs in
+ * "the left ventricle wall". Two phrases are near each other if at most the given number of terms separate them,
+ * in either order. Unlike a keyword, a phrase is not expanded with its synonyms.
+ * The matches are worked out exactly from the term positions in the {@link SearchIndex}.
+ */
+public class PhraseQueryPredicate implements IndexedPredicate {
+
+    private final Analyzer analyzer = Analyzer.getDefault();
+    private final List<Field> fields;
+    private final List<String> firstPhrase;
+    // empty if this predicate only looks for the first phrase
+    private final List<String> secondPhrase;
+    private final int maxDistance;
+
+    private PhraseQueryPredicate(String firstPhrase, String secondPhrase, int maxDistance, Field... fields) {
+        requireAllNonNull(firstPhrase, secondPhrase, fields);
+        this.fields = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(fields)));
+        this.firstPhrase = analyzer.analyze(firstPhrase);
+        this.secondPhrase = analyzer.analyze(secondPhrase);
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Returns a predicate that is satisfied when {@code phrase} occurs in any of {@code fields}.
+     */
+    public static PhraseQueryPredicate phrase(String phrase, Field... fields) {
+        return new PhraseQueryPredicate(phrase, "", 0, fields);
+    }
+
+    /**
+     * Returns a predicate that is satisfied when {@code firstPhrase} and {@code secondPhrase} occur at most
+     * {@code maxDistance} terms apart in any one of {@code fields}.
+     */
+    public static PhraseQueryPredicate near(String firstPhrase, String secondPhrase, int maxDistance,
+            Field... fields) {
+        return new PhraseQueryPredicate(firstPhrase, secondPhrase, maxDistance, fields);
+    }
+
+    @Override
+    public boolean test(QAndA qAndA) {
+        for (Field field : fields) {
+            List<String> terms = field == Field.QUESTION ? qAndA.getQuestion().getTerms(analyzer)
+                    : qAndA.getAnswer().getTerms(analyzer);
+            if (matches(terms)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(List<String> terms) {
+        int[] firstStarts = findStarts(terms, firstPhrase);
+        if (firstStarts.length == 0 || secondPhrase.isEmpty()) {
+            return firstStarts.length > 0;
+        }
+        int[] secondStarts = findStarts(terms, secondPhrase);
+        return Positions.isNear(firstStarts, firstPhrase.size(), secondStarts, secondPhrase.size(), maxDistance);
+    }
+
+    private static int[] findStarts(List<String> terms, List<String> phrase) {
+        List<int[]> termPositions = phrase.isEmpty() ? null : Positions.of(terms, phrase);
+        return termPositions == null ? new int[0] : Positions.findPhraseStarts(termPositions);
+    }
+
+    @Override
+    public Optional<Set<Long>> getCandidateIds(SearchIndex index) {
+        Set<Long> matches = new HashSet<>();
+        for (Field field : fields) {
+            Map<Long, int[]> firstOccurrences = index.findPhrase(field, firstPhrase);
+            if (secondPhrase.isEmpty()) {
+                matches.addAll(firstOccurrences.keySet());
+                continue;
+            }
+            Map<Long, int[]> secondOccurrences = index.findPhrase(field, secondPhrase);
+            for (Map.Entry<Long, int[]> first : firstOccurrences.entrySet()) {
+                int[] secondStarts = secondOccurrences.get(first.getKey());
+                if (secondStarts != null && Positions.isNear(first.getValue(), firstPhrase.size(), secondStarts,
+                        secondPhrase.size(), maxDistance)) {
+                    matches.add(first.getKey());
+                }
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    @Override
+    public int estimateCandidateCount(SearchIndex index) {
+        long estimate = 0;
+        for (Field field : fields) {
+            int smallest = Integer.MAX_VALUE - 1;
+            for (String term : firstPhrase) {
+                smallest = Math.min(smallest, index.getPostings(field, term).size());
+            }
+            for (String term : secondPhrase) {
+                smallest = Math.min(smallest, index.getPostings(field, term).size());
+            }
+            estimate += firstPhrase.isEmpty() ? 0 : smallest;
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE - 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhraseQueryPredicate // instanceof handles nulls
+                && fields.equals(((PhraseQueryPredicate) other).fields)
+                && firstPhrase.equals(((PhraseQueryPredicate) other).firstPhrase)
+                && secondPhrase.equals(((PhraseQueryPredicate) other).secondPhrase)
+                && maxDistance == ((PhraseQueryPredicate) other).maxDistance); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fields, firstPhrase, secondPhrase, maxDistance);
+    }
+
+}
@@ -0,0 +1,87 @@
+package seedu.medmoriser.model.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Works out where phrases occur from the positions of their terms, and whether two phrases occur near each other.
+ * Positions are counted in analyzed terms from 0 and are always in ascending order.
+ */
+class Positions {
+
+    private Positions() {} // prevents instantiation
+
+    /**
+     * Returns the positions of each of the terms of {@code phrase} in {@code terms}, in the order of the phrase,
+     * or {@code null} if some term of the phrase is not in {@code terms}.
+     */
+    static List<int[]> of(List<String> terms, List<String> phrase) {
+        List<int[]> positions = new ArrayList<>();
+        for (String phraseTerm : phrase) {
+            int[] termPositions = new int[terms.size()];
+            int count = 0;
+            for (int i = 0; i < terms.size(); i++) {
+                if (terms.get(i).equals(phraseTerm)) {
+                    termPositions[count++] = i;
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+            positions.add(Arrays.copyOf(termPositions, count));
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the positions at which a phrase starts, given the positions of each of its terms in order.
+     * The phrase starts at a position of its first term if every following term occurs right after the one before.
+     */
+    static int[] findPhraseStarts(List<int[]> termPositions) {
+        int[] firstTermPositions = termPositions.get(0);
+        int[] starts = new int[firstTermPositions.length];
+        int count = 0;
+        for (int start : firstTermPositions) {
+            boolean isPhrase = true;
+            for (int i = 1; i < termPositions.size() && isPhrase; i++) {
+                isPhrase = Arrays.binarySearch(termPositions.get(i), start + i) >= 0;
+            }
+            if (isPhrase) {
+                starts[count++] = start;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * Returns true if an occurrence of the first phrase, of {@code firstLength} terms starting at one of
+     * {@code firstStarts}, and an occurrence of the second one, of {@code secondLength} terms starting at one of
+     * {@code secondStarts}, are at most {@code maxDistance} terms apart, in either order.
+     * Occurrences that overlap do not count, so that a phrase is not found near itself.
+     */
+    static boolean isNear(int[] firstStarts, int firstLength, int[] secondStarts, int secondLength,
+            int maxDistance) {
+        for (int firstStart : firstStarts) {
+            // the first occurrence of the second phrase starting after this one of the first phrase ends
+            int after = insertionPoint(secondStarts, firstStart + firstLength);
+            if (after < secondStarts.length && secondStarts[after] - (firstStart + firstLength) <= maxDistance) {
+                return true;
+            }
+            // the last occurrence of the second phrase ending before this one of the first phrase starts
+            int before = insertionPoint(secondStarts, firstStart - secondLength + 1) - 1;
+            if (before >= 0 && firstStart - (secondStarts[before] + secondLength) <= maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first of {@code sortedPositions} that is at least {@code position}.
+     */
+    private static int insertionPoint(int[] sortedPositions, int position) {
+        int index = Arrays.binarySearch(sortedPositions, position);
+        return index >= 0 ? index : -index - 1;
+    }
+}
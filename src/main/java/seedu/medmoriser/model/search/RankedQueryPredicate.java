@@ -0,0 +1,201 @@
+package seedu.medmoriser.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.SearchIndex.Field;
+
+/**
+ * Tests that a {@code QAndA}'s question or answer contains any of the analyzed terms of the keywords or of their
+ * synonyms, and ranks the qAndAs that do by how relevant they are to those terms.
+ * <p>
+ * Relevance is the BM25 score of the question and the answer, with matches in the question counting more.
+ * Only the {@code limit} best qAndAs are kept, selected with a bounded heap rather than by sorting every match.
+ */
+public class RankedQueryPredicate implements IndexedPredicate {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    /** How quickly repeating a term stops making a field more relevant. */
+    static final double TERM_FREQUENCY_SATURATION = 1.2;
+    /** How much a long field is penalised for having more chances to contain a term. */
+    static final double LENGTH_NORMALISATION = 0.75;
+    /** How many times a match in the question counts for more than a match in the answer. */
+    static final double QUESTION_BOOST = 2.0;
+
+    private final Analyzer analyzer = Analyzer.getDefault();
+    private final List<String> keywords;
+    private final Set<String> terms = new LinkedHashSet<>();
+    private final int limit;
+
+    /**
+     * Creates a predicate ranking by the terms of {@code keywords} and keeping at most {@code limit} qAndAs.
+     */
+    public RankedQueryPredicate(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        this.keywords = new ArrayList<>(keywords);
+        this.limit = limit;
+        keywords.forEach(keyword -> analyzer.expand(keyword).forEach(terms::addAll));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean test(QAndA qAndA) {
+        return qAndA.getQuestion().getTerms(analyzer).stream().anyMatch(terms::contains)
+                || qAndA.getAnswer().getTerms(analyzer).stream().anyMatch(terms::contains);
+    }
+
+    @Override
+    public Optional<Set<Long>> getCandidateIds(SearchIndex index) {
+        Set<Long> candidates = new HashSet<>();
+        for (String term : terms) {
+            candidates.addAll(index.getPostings(Field.QUESTION, term));
+            candidates.addAll(index.getPostings(Field.ANSWER, term));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public int estimateCandidateCount(SearchIndex index) {
+        long estimate = 0;
+        for (String term : terms) {
+            estimate += index.getPostings(Field.QUESTION, term).size() + index.getPostings(Field.ANSWER, term).size();
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Returns the ids of the at most {@code limit} qAndAs in {@code index} most relevant to the keywords,
+     * most relevant first. QAndAs that are equally relevant are in the order they were added.
+     */
+    public List<Long> rank(SearchIndex index) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            addScores(scores, index, Field.QUESTION, term, QUESTION_BOOST);
+            addScores(scores, index, Field.ANSWER, term, 1);
+        }
+        return selectBest(scores);
+    }
+
+    /**
+     * Similar to {@link #rank(SearchIndex)}, but for qAndAs without a search index, such as those of a read-only
+     * deck. Every qAndA is analyzed once, and only the term frequencies of the matching ones are kept.
+     */
+    public List<Long> rank(List<QAndA> qAndAs) {
+        Map<Long, Double> scores = new HashMap<>();
+        addScores(scores, qAndAs, Field.QUESTION, QUESTION_BOOST);
+        addScores(scores, qAndAs, Field.ANSWER, 1);
+        return selectBest(scores);
+    }
+
+    /**
+     * Returns the ids of the at most {@code limit} best {@code scores}, best first.
+     */
+    private List<Long> selectBest(Map<Long, Double> scores) {
+        Comparator<Map.Entry<Long, Double>> worstFirst = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(worstFirst);
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.add(score);
+            } else if (limit > 0 && worstFirst.compare(score, best.peek()) > 0) {
+                best.poll();
+                best.add(score);
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private static void addScores(Map<Long, Double> scores, SearchIndex index, Field field, String term,
+            double boost) {
+        Map<Long, int[]> positions = index.getPositions(field, term);
+        if (positions.isEmpty()) {
+            return;
+        }
+        double idf = getInverseDocumentFrequency(index.size(), positions.size());
+        double averageLength = index.getAverageLength(field);
+        for (Map.Entry<Long, int[]> termPositions : positions.entrySet()) {
+            double lengthRatio = index.getLength(field, termPositions.getKey()) / averageLength;
+            scores.merge(termPositions.getKey(),
+                    boost * idf * saturate(termPositions.getValue().length, lengthRatio), Double::sum);
+        }
+    }
+
+    private void addScores(Map<Long, Double> scores, List<QAndA> qAndAs, Field field, double boost) {
+        // the frequency of each term in each qAndA containing it, and the length of the field of those qAndAs
+        Map<String, Map<Long, Integer>> termFrequencies = new HashMap<>();
+        Map<Long, Integer> lengths = new HashMap<>();
+        long totalLength = 0;
+        for (QAndA qAndA : qAndAs) {
+            List<String> fieldTerms = field == Field.QUESTION ? qAndA.getQuestion().getTerms(analyzer)
+                    : qAndA.getAnswer().getTerms(analyzer);
+            totalLength += fieldTerms.size();
+            for (String term : fieldTerms) {
+                if (terms.contains(term)) {
+                    termFrequencies.computeIfAbsent(term, unused -> new HashMap<>())
+                            .merge(qAndA.getId(), 1, Integer::sum);
+                    lengths.put(qAndA.getId(), fieldTerms.size());
+                }
+            }
+        }
+
+        double averageLength = (double) totalLength / qAndAs.size();
+        for (Map<Long, Integer> frequencies : termFrequencies.values()) {
+            double idf = getInverseDocumentFrequency(qAndAs.size(), frequencies.size());
+            for (Map.Entry<Long, Integer> frequency : frequencies.entrySet()) {
+                double lengthRatio = lengths.get(frequency.getKey()) / averageLength;
+                scores.merge(frequency.getKey(), boost * idf * saturate(frequency.getValue(), lengthRatio),
+                        Double::sum);
+            }
+        }
+    }
+
+    private static double getInverseDocumentFrequency(int count, int matchCount) {
+        return Math.log(1 + (count - matchCount + 0.5) / (matchCount + 0.5));
+    }
+
+    /**
+     * Returns how much {@code tf} occurrences of a term make a field relevant, where the field is
+     * {@code lengthRatio} times as long as the average.
+     */
+    private static double saturate(double tf, double lengthRatio) {
+        return tf * (TERM_FREQUENCY_SATURATION + 1) / (tf + TERM_FREQUENCY_SATURATION
+                * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RankedQueryPredicate // instanceof handles nulls
+                && keywords.equals(((RankedQueryPredicate) other).keywords)
+                && limit == ((RankedQueryPredicate) other).limit); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, limit);
+    }
+
+}
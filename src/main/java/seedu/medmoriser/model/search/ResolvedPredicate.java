@@ -0,0 +1,44 @@
+package seedu.medmoriser.model.search;
+
+import static seedu.medmoriser.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * A {@code Predicate} whose matches among the current qAndAs were resolved up front.
+ * Until {@link #release()} is called, it only checks membership in the resolved matches. Afterwards it defers to the
+ * original predicate, so that qAndAs added or replaced later are still tested properly.
+ */
+public class ResolvedPredicate implements Predicate<QAndA> {
+
+    private final Predicate<QAndA> original;
+    private final Set<QAndA> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean isReleased = false;
+
+    /**
+     * Creates a {@code ResolvedPredicate} for {@code original}, whose matches are exactly {@code matches}.
+     */
+    public ResolvedPredicate(Predicate<QAndA> original, Iterable<QAndA> matches) {
+        requireAllNonNull(original, matches);
+        this.original = original;
+        matches.forEach(this.matches::add);
+    }
+
+    /**
+     * Stops answering from the resolved matches.
+     */
+    public void release() {
+        isReleased = true;
+        matches.clear();
+    }
+
+    @Override
+    public boolean test(QAndA qAndA) {
+        return isReleased ? original.test(qAndA) : matches.contains(qAndA);
+    }
+}
@@ -0,0 +1,333 @@
+package seedu.medmoriser.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.tag.Tag;
+
+/**
+ * An inverted index from the analyzed terms of each qAndA's question and answer to the ids of the qAndAs
+ * containing them, and from each lower-cased tag name to the ids of the qAndAs carrying that tag.
+ * It also keeps the positions at which each term occurs in each field, for phrase and proximity searches and for
+ * ranking, how many terms each field has, and a dictionary of all the terms, for finding terms spelt similarly to
+ * a keyword.
+ * The index is kept up to date by its owner as qAndAs are added, replaced and removed.
+ * <p>
+ * The answers are only indexed the first time an answer is searched, or the term dictionary is used, as reading
+ * every answer may load it from the data file. Searches of the tags or questions alone never read an answer.
+ */
+public class SearchIndex {
+
+    /**
+     * The searchable text fields of a qAndA.
+     */
+    public enum Field {
+        QUESTION, ANSWER
+    }
+
+    private final Analyzer analyzer = Analyzer.getDefault();
+    private final TermDictionary dictionary = new TermDictionary();
+    private final FieldIndex questionIndex = new FieldIndex(dictionary);
+    private final Map<String, Set<Long>> tagPostings = new HashMap<>();
+    private final Set<Long> untagged = new HashSet<>();
+    private final Iterable<QAndA> qAndAs;
+    // built from the qAndAs on first use
+    private FieldIndex answerIndex;
+
+    /**
+     * Creates an index of the qAndAs in {@code qAndAs}. Their answers are indexed later, from the qAndAs then in
+     * {@code qAndAs}, so it must be the owner's list, which the owner keeps this index in step with.
+     */
+    public SearchIndex(Iterable<QAndA> qAndAs) {
+        requireNonNull(qAndAs);
+        this.qAndAs = qAndAs;
+        for (QAndA qAndA : qAndAs) {
+            addQuestionAndTags(qAndA);
+        }
+    }
+
+    /**
+     * Adds the terms of {@code qAndA} to the index.
+     */
+    public void add(QAndA qAndA) {
+        requireNonNull(qAndA);
+        addQuestionAndTags(qAndA);
+        if (answerIndex != null) {
+            answerIndex.add(qAndA.getAnswer().getTerms(analyzer), qAndA.getId());
+        }
+    }
+
+    private void addQuestionAndTags(QAndA qAndA) {
+        questionIndex.add(qAndA.getQuestion().getTerms(analyzer), qAndA.getId());
+        for (Tag tag : qAndA.getTags()) {
+            tagPostings.computeIfAbsent(tag.tagName.toLowerCase(), unused -> new HashSet<>()).add(qAndA.getId());
+        }
+        if (qAndA.getTags().isEmpty()) {
+            untagged.add(qAndA.getId());
+        }
+    }
+
+    /**
+     * Removes the terms of {@code qAndA} from the index.
+     */
+    public void remove(QAndA qAndA) {
+        requireNonNull(qAndA);
+        questionIndex.remove(qAndA.getQuestion().getTerms(analyzer), qAndA.getId());
+        if (answerIndex != null) {
+            answerIndex.remove(qAndA.getAnswer().getTerms(analyzer), qAndA.getId());
+        }
+        for (Tag tag : qAndA.getTags()) {
+            removePosting(tagPostings, tag.tagName.toLowerCase(), qAndA.getId());
+        }
+        untagged.remove(qAndA.getId());
+    }
+
+    /**
+     * Returns the ids of the qAndAs whose {@code field} contains {@code term}.
+     */
+    public Set<Long> getPostings(Field field, String term) {
+        return Collections.unmodifiableSet(postingsOf(field, term));
+    }
+
+    /**
+     * Returns the positions at which {@code term} occurs in the {@code field} of each qAndA containing it, by id.
+     * The positions of a qAndA are in ascending order, counted in analyzed terms from 0, and must not be modified.
+     */
+    public Map<Long, int[]> getPositions(Field field, String term) {
+        return Collections.unmodifiableMap(fieldIndexOf(field).postings.getOrDefault(term, Collections.emptyMap()));
+    }
+
+    /**
+     * Returns the positions at which the terms of {@code phrase} occur one after another in the {@code field} of
+     * each qAndA containing it, by id. Each position is that of the first term of the phrase.
+     * Only the qAndAs containing the rarest term of the phrase are looked at.
+     */
+    public Map<Long, int[]> findPhrase(Field field, List<String> phrase) {
+        requireNonNull(phrase);
+        Map<Long, int[]> occurrences = new HashMap<>();
+        if (phrase.isEmpty()) {
+            return occurrences;
+        }
+        List<Map<Long, int[]>> termPositions = new ArrayList<>();
+        Map<Long, int[]> rarest = null;
+        for (String term : phrase) {
+            Map<Long, int[]> positions = fieldIndexOf(field).postings.getOrDefault(term, Collections.emptyMap());
+            termPositions.add(positions);
+            if (rarest == null || positions.size() < rarest.size()) {
+                rarest = positions;
+            }
+        }
+
+        List<int[]> positionsOfId = new ArrayList<>();
+        for (long id : rarest.keySet()) {
+            positionsOfId.clear();
+            for (Map<Long, int[]> positions : termPositions) {
+                positionsOfId.add(positions.get(id));
+            }
+            if (!positionsOfId.contains(null)) {
+                int[] starts = Positions.findPhraseStarts(positionsOfId);
+                if (starts.length > 0) {
+                    occurrences.put(id, starts);
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the number of terms in the {@code field} of the qAndA with the given {@code id}.
+     */
+    public int getLength(Field field, long id) {
+        return fieldIndexOf(field).lengths.getOrDefault(id, 0);
+    }
+
+    /**
+     * Returns the average number of terms in {@code field} over all indexed qAndAs, or 0 if there are none.
+     */
+    public double getAverageLength(Field field) {
+        FieldIndex fieldIndex = fieldIndexOf(field);
+        return fieldIndex.lengths.isEmpty() ? 0 : (double) fieldIndex.totalLength / fieldIndex.lengths.size();
+    }
+
+    /**
+     * Returns the number of indexed qAndAs.
+     */
+    public int size() {
+        return questionIndex.lengths.size();
+    }
+
+    /**
+     * Returns the terms of any question or answer within {@code maxEdits} edits of {@code term}.
+     *
+     * @see TermDictionary#findSimilar(String, int)
+     */
+    public Set<String> findSimilarTerms(String term, int maxEdits) {
+        getAnswerIndex();
+        return dictionary.findSimilar(term, maxEdits);
+    }
+
+    /**
+     * Returns the ids of the qAndAs carrying a tag whose name equals {@code tagName}, ignoring case.
+     */
+    public Set<Long> getTagPostings(String tagName) {
+        requireNonNull(tagName);
+        return Collections.unmodifiableSet(tagPostings.getOrDefault(tagName.toLowerCase(), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the ids of the qAndAs without any tags.
+     */
+    public Set<Long> getUntagged() {
+        return Collections.unmodifiableSet(untagged);
+    }
+
+    /**
+     * Returns the ids of the qAndAs that may contain any of {@code phrases}, given as analyzed terms, in any of
+     * {@code fields}. A phrase can only occur in a field if every one of its terms is a term of that field,
+     * so the result is a superset of the actual matches that still needs to be verified.
+     * Returns {@code Optional.empty()} if some phrase has no terms and thus cannot be looked up.
+     */
+    public Optional<Set<Long>> findCandidates(List<List<String>> phrases, Field... fields) {
+        Set<Long> candidates = new HashSet<>();
+        for (List<String> terms : phrases) {
+            if (terms.isEmpty()) {
+                return Optional.empty();
+            }
+            for (Field field : fields) {
+                candidates.addAll(findContainingAll(field, terms));
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns an upper bound on the number of ids {@link #findCandidates(List, Field...)} would return, worked out
+     * from the sizes of the postings alone, or {@code Integer.MAX_VALUE} if it would return {@code Optional.empty()}.
+     */
+    public int estimateCandidates(List<List<String>> phrases, Field... fields) {
+        long estimate = 0;
+        for (List<String> terms : phrases) {
+            if (terms.isEmpty()) {
+                return Integer.MAX_VALUE;
+            }
+            for (Field field : fields) {
+                int smallest = Integer.MAX_VALUE;
+                for (String term : terms) {
+                    smallest = Math.min(smallest, postingsOf(field, term).size());
+                }
+                estimate += smallest;
+            }
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Returns true if the answers have been indexed.
+     */
+    public boolean isAnswerIndexed() {
+        return answerIndex != null;
+    }
+
+    private FieldIndex fieldIndexOf(Field field) {
+        return field == Field.QUESTION ? questionIndex : getAnswerIndex();
+    }
+
+    private FieldIndex getAnswerIndex() {
+        if (answerIndex == null) {
+            answerIndex = new FieldIndex(dictionary);
+            for (QAndA qAndA : qAndAs) {
+                answerIndex.add(qAndA.getAnswer().getTerms(analyzer), qAndA.getId());
+            }
+        }
+        return answerIndex;
+    }
+
+    private Set<Long> postingsOf(Field field, String term) {
+        return fieldIndexOf(field).postings.getOrDefault(term, Collections.emptyMap()).keySet();
+    }
+
+    private Set<Long> findContainingAll(Field field, List<String> terms) {
+        Set<Long> smallest = null;
+        for (String term : terms) {
+            Set<Long> termPostings = postingsOf(field, term);
+            if (smallest == null || termPostings.size() < smallest.size()) {
+                smallest = termPostings;
+            }
+        }
+
+        Set<Long> result = new HashSet<>(smallest);
+        for (String term : terms) {
+            result.retainAll(postingsOf(field, term));
+        }
+        return result;
+    }
+
+    private static void removePosting(Map<String, Set<Long>> postings, String key, long id) {
+        Set<Long> keyPostings = postings.get(key);
+        if (keyPostings != null) {
+            keyPostings.remove(id);
+            if (keyPostings.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * The postings of one text field, with the positions at which each term occurs in the field of each qAndA,
+     * and the number of terms in the field of each qAndA.
+     */
+    private static class FieldIndex {
+
+        private final TermDictionary dictionary;
+        private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+        private final Map<Long, Integer> lengths = new HashMap<>();
+        private long totalLength = 0;
+
+        FieldIndex(TermDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        void add(List<String> terms, long id) {
+            Map<String, List<Integer>> termPositions = new LinkedHashMap<>();
+            for (int i = 0; i < terms.size(); i++) {
+                termPositions.computeIfAbsent(terms.get(i), unused -> new ArrayList<>()).add(i);
+            }
+            for (Map.Entry<String, List<Integer>> entry : termPositions.entrySet()) {
+                String term = entry.getKey();
+                postings.computeIfAbsent(term, unused -> {
+                    dictionary.add(term);
+                    return new HashMap<>();
+                }).put(id, entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+            lengths.put(id, terms.size());
+            totalLength += terms.size();
+        }
+
+        void remove(List<String> terms, long id) {
+            for (String term : new HashSet<>(terms)) {
+                Map<Long, int[]> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(id);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                        dictionary.remove(term);
+                    }
+                }
+            }
+            Integer length = lengths.remove(id);
+            if (length != null) {
+                totalLength -= length;
+            }
+        }
+    }
+}
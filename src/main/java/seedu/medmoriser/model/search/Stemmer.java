@@ -0,0 +1,26 @@
+package seedu.medmoriser.model.search;
+
+/**
+ * Reduces the plural of a term to its singular, so that e.g. "fractures" and "fracture" are searched alike.
+ * <p>
+ * It only strips plural endings, which is enough for most medical terms without risking unrelated terms being
+ * conflated. Singular terms ending in "-us", "-ss" or "-is", such as "virus" or "stenosis", are kept as they are.
+ */
+public class Stemmer implements TermFilter {
+
+    private static final int MIN_STEMMED_LENGTH = 4;
+
+    @Override
+    public String filter(String term) {
+        if (term.length() < MIN_STEMMED_LENGTH) {
+            return term;
+        }
+        if (term.endsWith("ies") && !term.endsWith("eies") && !term.endsWith("aies")) {
+            return term.substring(0, term.length() - 3) + "y";
+        }
+        if (term.endsWith("s") && !term.endsWith("us") && !term.endsWith("ss") && !term.endsWith("is")) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+}
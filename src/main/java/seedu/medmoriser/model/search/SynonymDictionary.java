@@ -0,0 +1,68 @@
+package seedu.medmoriser.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Groups of phrases that mean the same, such as an abbreviation and what it stands for.
+ * <p>
+ * It is read from a text file with one group per line, its phrases separated by commas, e.g.
+ * {@code MI, myocardial infarction, heart attack}. Blank lines and lines starting with {@code #} are ignored.
+ */
+public class SynonymDictionary {
+
+    public static final SynonymDictionary EMPTY = new SynonymDictionary(Collections.emptyList());
+
+    private static final String COMMENT_START = "#";
+
+    private final List<List<String>> groups;
+
+    /**
+     * Creates a dictionary of the given groups of phrases.
+     */
+    public SynonymDictionary(List<List<String>> groups) {
+        requireNonNull(groups);
+        this.groups = groups.stream().map(group -> Collections.unmodifiableList(new ArrayList<>(group)))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the dictionary described by {@code lines}, one group per line.
+     * A line with fewer than two phrases has nothing to expand and is ignored.
+     */
+    public static SynonymDictionary parse(List<String> lines) {
+        List<List<String>> groups = new ArrayList<>();
+        for (String line : lines) {
+            if (line.trim().startsWith(COMMENT_START)) {
+                continue;
+            }
+            List<String> phrases = Arrays.stream(line.split(",")).map(String::trim)
+                    .filter(phrase -> !phrase.isEmpty()).collect(Collectors.toList());
+            if (phrases.size() >= 2) {
+                groups.add(phrases);
+            }
+        }
+        return new SynonymDictionary(groups);
+    }
+
+    public List<List<String>> getGroups() {
+        return groups;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SynonymDictionary // instanceof handles nulls
+                && groups.equals(((SynonymDictionary) other).groups)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return groups.hashCode();
+    }
+}
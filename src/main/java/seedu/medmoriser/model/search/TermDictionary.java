@@ -0,0 +1,164 @@
+package seedu.medmoriser.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The distinct terms of a {@link SearchIndex}, with an index from each trigram to the terms containing it so that
+ * terms spelt similarly to a given one can be found without comparing it to every term.
+ * <p>
+ * Each term is padded with a marker at both ends before being split into trigrams, so that short terms and the
+ * ends of terms have trigrams too. An edit changes at most three trigrams, so a term within {@code d} edits of
+ * another shares all but at most {@code 3d} of the other's distinct trigrams.
+ */
+public class TermDictionary {
+
+    private static final char PADDING = '\u0000';
+
+    private final Map<String, Integer> termCounts = new HashMap<>();
+    private final Map<String, Set<String>> trigramPostings = new HashMap<>();
+
+    /**
+     * Counts one more use of {@code term}, adding it to the dictionary if it is new.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        if (termCounts.merge(term, 1, Integer::sum) == 1) {
+            for (String trigram : trigramsOf(term)) {
+                trigramPostings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(term);
+            }
+        }
+    }
+
+    /**
+     * Counts one less use of {@code term}, removing it from the dictionary once it is no longer used.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        Integer count = termCounts.get(term);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            termCounts.put(term, count - 1);
+            return;
+        }
+        termCounts.remove(term);
+        for (String trigram : trigramsOf(term)) {
+            Set<String> terms = trigramPostings.get(trigram);
+            terms.remove(term);
+            if (terms.isEmpty()) {
+                trigramPostings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     */
+    public int size() {
+        return termCounts.size();
+    }
+
+    /**
+     * Returns the terms that are at most {@code maxEdits} insertions, deletions or substitutions of a character
+     * away from {@code term}, including {@code term} itself if it is in the dictionary.
+     */
+    public Set<String> findSimilar(String term, int maxEdits) {
+        requireNonNull(term);
+        Set<String> similar = new HashSet<>();
+        for (String candidate : findCandidates(term, maxEdits)) {
+            if (isWithinEditDistance(term, candidate, maxEdits)) {
+                similar.add(candidate);
+            }
+        }
+        return similar;
+    }
+
+    /**
+     * Returns the terms sharing enough trigrams with {@code term} to possibly be within {@code maxEdits} of it,
+     * or every term if {@code term} is too short for any to be ruled out that way.
+     */
+    private Iterable<String> findCandidates(String term, int maxEdits) {
+        Set<String> trigrams = trigramsOf(term);
+        int minShared = trigrams.size() - 3 * maxEdits;
+        if (minShared <= 0) {
+            return termCounts.keySet();
+        }
+
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String candidate : trigramPostings.getOrDefault(trigram, Collections.emptySet())) {
+                sharedCounts.merge(candidate, 1, Integer::sum);
+            }
+        }
+        List<String> candidates = new ArrayList<>();
+        sharedCounts.forEach((candidate, shared) -> {
+            if (shared >= minShared) {
+                candidates.add(candidate);
+            }
+        });
+        return candidates;
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        String padded = PADDING + term + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns true if {@code first} can be turned into {@code second} with at most {@code maxEdits} insertions,
+     * deletions or substitutions of a character.
+     * Only the cells of the edit distance table within {@code maxEdits} of its diagonal are worked out, and it stops
+     * as soon as a row has no cell within {@code maxEdits}.
+     */
+    static boolean isWithinEditDistance(String first, String second, int maxEdits) {
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return false;
+        }
+        int beyond = maxEdits + 1;
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, beyond);
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(second.length(), i + maxEdits);
+            current[0] = Math.min(i, beyond);
+            if (from > 1) {
+                current[from - 1] = beyond;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = j <= i + maxEdits - 1 ? previous[j] + 1 : beyond;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(beyond, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = beyond;
+            }
+            if (rowMinimum > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()] <= maxEdits;
+    }
+}
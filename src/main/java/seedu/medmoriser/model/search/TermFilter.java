@@ -0,0 +1,13 @@
+package seedu.medmoriser.model.search;
+
+/**
+ * A step of an {@link Analyzer}, which turns each lower-cased term of a text into the form it is indexed and
+ * searched by.
+ */
+public interface TermFilter {
+
+    /**
+     * Returns the form of {@code term} to index and search by.
+     */
+    String filter(String term);
+}
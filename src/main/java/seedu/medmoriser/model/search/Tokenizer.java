@@ -0,0 +1,52 @@
+package seedu.medmoriser.model.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits text into the lower-cased terms used by the {@link SearchIndex}.
+ * A term is a maximal run of word characters, which are the characters that the regex word boundary
+ * {@code \b} treats as word characters: letters, digits, underscores and the combining marks that follow them.
+ */
+public class Tokenizer {
+
+    private Tokenizer() {} // prevents instantiation
+
+    /**
+     * Returns the terms of {@code text}, in order of appearance and including repeats.
+     */
+    public static List<String> tokenize(String text) {
+        return tokenizeLowerCased(text.toLowerCase());
+    }
+
+    /**
+     * Returns the terms of {@code lowerCasedText}, which must already be lower-cased.
+     */
+    public static List<String> tokenizeLowerCased(String lowerCasedText) {
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        int i = 0;
+        while (i < lowerCasedText.length()) {
+            int codePoint = lowerCasedText.codePointAt(i);
+            if (isWordCodePoint(codePoint, start != -1)) {
+                if (start == -1) {
+                    start = i;
+                }
+            } else if (start != -1) {
+                terms.add(lowerCasedText.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start != -1) {
+            terms.add(lowerCasedText.substring(start));
+        }
+        return terms;
+    }
+
+    private static boolean isWordCodePoint(int codePoint, boolean isInsideTerm) {
+        return codePoint == '_'
+                || Character.isLetterOrDigit(codePoint)
+                || (isInsideTerm && Character.getType(codePoint) == Character.NON_SPACING_MARK);
+    }
+}
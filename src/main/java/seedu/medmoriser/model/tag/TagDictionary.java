@@ -0,0 +1,96 @@
+package seedu.medmoriser.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tags by giving every distinct tag name a small int id, shared by the whole application.
+ * A question bank reuses a few hundred tag names across many qAndAs, so a qAndA can store its tags as a sorted
+ * array of these ids and every tag name is held in memory only once.
+ * Safe to use from multiple threads.
+ */
+public class TagDictionary {
+
+    private static final int[] NO_IDS = new int[0];
+
+    private static final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private static volatile Tag[] tagsById = new Tag[64];
+    private static int size = 0;
+
+    private TagDictionary() {} // prevents instantiation
+
+    /**
+     * Returns the id of {@code tag}, assigning it the next free id if it has not been seen before.
+     */
+    public static int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByName.get(tag.tagName);
+        return id != null ? id : intern(tag);
+    }
+
+    /**
+     * Returns the id of {@code tag}, or -1 if it has never been interned.
+     */
+    public static int findId(Tag tag) {
+        Integer id = idsByName.get(tag.tagName);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the tag with the given {@code id}.
+     */
+    public static Tag tagOf(int id) {
+        return tagsById[id];
+    }
+
+    /**
+     * Returns the sorted, duplicate-free ids of {@code tags}.
+     */
+    public static int[] toSortedIds(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags.isEmpty()) {
+            return NO_IDS;
+        }
+        int[] ids = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ids[count++] = idOf(tag);
+        }
+        Arrays.sort(ids);
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct == count ? ids : Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Returns an unmodifiable set view of the tags with the given sorted, duplicate-free {@code ids}.
+     */
+    public static Set<Tag> asSet(int[] ids) {
+        return Collections.unmodifiableSet(new TagIdSet(ids));
+    }
+
+    private static synchronized int intern(Tag tag) {
+        Integer id = idsByName.get(tag.tagName);
+        if (id != null) {
+            return id;
+        }
+        if (size == tagsById.length) {
+            tagsById = Arrays.copyOf(tagsById, size * 2);
+        }
+        // publish the tag before its id, so that any thread holding the id can read the tag
+        tagsById[size] = tag;
+        idsByName.put(tag.tagName, size);
+        return size++;
+    }
+}
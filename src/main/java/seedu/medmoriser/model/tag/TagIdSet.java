@@ -0,0 +1,52 @@
+package seedu.medmoriser.model.tag;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of tags backed by a sorted array of {@link TagDictionary} ids.
+ */
+class TagIdSet extends AbstractSet<Tag> {
+
+    private final int[] ids;
+
+    TagIdSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.tagOf(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tag)) {
+            return false;
+        }
+        int id = TagDictionary.findId((Tag) o);
+        return id != -1 && Arrays.binarySearch(ids, id) >= 0;
+    }
+}
@@ -32,6 +32,21 @@ public class SampleDataUtil {
         };
     }
 
+    /**
+     * Returns the content of a sample synonyms file, for the user to extend.
+     */
+    public static String getSampleSynonyms() {
+        return "# Each line lists keywords that find treats as meaning the same, separated by commas.\n"
+                + "# A search for any of them also finds the others.\n"
+                + "MI, myocardial infarction, heart attack\n"
+                + "HTN, hypertension, high blood pressure\n"
+                + "DM, diabetes mellitus\n"
+                + "CVA, stroke, cerebrovascular accident\n"
+                + "COPD, chronic obstructive pulmonary disease\n"
+                + "PE, pulmonary embolism\n"
+                + "DVT, deep vein thrombosis\n";
+    }
+
     public static ReadOnlyMedmoriser getSampleMedmoriser() {
         Medmoriser sampleMedmoriser = new Medmoriser();
         for (QAndA sampleQAndA : getSampleQuestionSets()) {
@@ -0,0 +1,141 @@
+package seedu.medmoriser.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import seedu.medmoriser.commons.util.LruCache;
+import seedu.medmoriser.model.qanda.Answer;
+import seedu.medmoriser.model.qanda.AnswerHandle;
+
+/**
+ * The answers of a binary medmoriser file that was read without keeping them in memory.
+ * Each qAndA holds a small handle with the position of its answer in the file, and the answer is read back
+ * through a bounded cache whenever it is needed.
+ * <p>
+ * The file stays open for as long as any handle is reachable. A save replaces the file with a new one
+ * rather than writing into it, so the handles keep reading the data they were created from.
+ */
+class AnswerFile {
+
+    static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final FileChannel channel;
+    private final LruCache<Long, Answer> cache;
+    private volatile ByteBuffer loadingData;
+
+    /**
+     * Creates an {@code AnswerFile} over the file open in {@code channel}, which it closes once it is unreachable.
+     *
+     * @param loadingData the whole content of the file, to read answers from until {@link #finishLoading()}.
+     */
+    AnswerFile(FileChannel channel, ByteBuffer loadingData, int cacheCapacity) {
+        this.channel = channel;
+        this.loadingData = loadingData;
+        this.cache = new LruCache<>(cacheCapacity);
+        CLEANER.register(this, () -> closeQuietly(channel));
+    }
+
+    /**
+     * Returns a handle to the answer whose UTF-8 text is the {@code length} bytes at {@code position} in the file.
+     * The text must already have been checked to be a valid answer.
+     */
+    AnswerHandle handleAt(long position, int length) {
+        return new StoredAnswer(this, position, length);
+    }
+
+    /**
+     * Stops reading answers from the data given on creation, so that it can be freed.
+     */
+    void finishLoading() {
+        loadingData = null;
+    }
+
+    /**
+     * Returns the number of answers being kept.
+     */
+    int getCachedCount() {
+        return cache.size();
+    }
+
+    private Answer load(long position, int length) {
+        Answer answer = cache.get(position);
+        if (answer != null) {
+            return answer;
+        }
+        answer = new Answer(new String(read(position, length), StandardCharsets.UTF_8));
+        cache.put(position, answer);
+        return answer;
+    }
+
+    private byte[] read(long position, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer data = loadingData;
+        if (data != null) {
+            data.duplicate().position((int) position).get(bytes);
+            return bytes;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException(BinarySerializableMedmoriser.MESSAGE_TRUNCATED);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read an answer from the data file", e);
+        }
+        return bytes;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing else holds the file, so there is nobody to tell
+        }
+    }
+
+    /**
+     * A handle to one answer in an {@code AnswerFile}.
+     */
+    private static class StoredAnswer implements AnswerHandle {
+
+        private final AnswerFile file;
+        private final long position;
+        private final int length;
+
+        StoredAnswer(AnswerFile file, long position, int length) {
+            this.file = file;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        public Answer load() {
+            return file.load(position, length);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof StoredAnswer // instanceof handles nulls
+                    && file == ((StoredAnswer) other).file
+                    && position == ((StoredAnswer) other).position
+                    && length == ((StoredAnswer) other).length); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(file), position, length);
+        }
+    }
+
+}
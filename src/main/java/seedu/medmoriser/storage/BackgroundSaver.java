@@ -0,0 +1,126 @@
+package seedu.medmoriser.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.medmoriser.commons.core.LogsCenter;
+import seedu.medmoriser.model.ChangeLog;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * Saves the medmoriser to a {@link MedmoriserStorage} on a background thread, so that callers never wait for a write.
+ * Each request takes a snapshot of the medmoriser. Requests made while an earlier one is still waiting to be written
+ * replace it, so a burst of changes results in a single write of the latest state.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final MedmoriserStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "medmoriser-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyMedmoriser> pending = new AtomicReference<>();
+    private volatile Consumer<Exception> failureHandler = unused -> {};
+
+    /**
+     * Creates a {@code BackgroundSaver} that writes to {@code storage}.
+     */
+    public BackgroundSaver(MedmoriserStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler to be told, on the saver's thread, about every write that fails, whether with an
+     * {@code IOException} or with a {@code RuntimeException} such as one from reading a lazily loaded answer.
+     */
+    public void setFailureHandler(Consumer<Exception> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code medmoriser} to be saved, replacing any snapshot still waiting to be written.
+     * The qAndAs are copied before this method returns, so the medmoriser may change straight afterwards.
+     */
+    public void requestSave(ReadOnlyMedmoriser medmoriser) {
+        requireNonNull(medmoriser);
+        // qAndAs are immutable, so copying the list is enough to take a consistent snapshot
+        ObservableList<QAndA> qAndAs =
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(medmoriser.getQAndAList()));
+        // the position lets the storage write only what changed since the snapshot it saved last
+        Optional<ChangeLog.Position> position = medmoriser.getChangeLogPosition();
+        ReadOnlyMedmoriser snapshot = new ReadOnlyMedmoriser() {
+            @Override
+            public ObservableList<QAndA> getQAndAList() {
+                return qAndAs;
+            }
+
+            @Override
+            public Optional<ChangeLog.Position> getChangeLogPosition() {
+                return position;
+            }
+        };
+
+        if (pending.getAndSet(snapshot) == null) {
+            executor.execute(this::writePending);
+        } else {
+            logger.fine("Coalesced save request into the pending one");
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been attempted.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (ExecutionException e) {
+            logger.warning("Unexpected error while flushing saves: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes out any pending save and stops the saver. No saves can be requested afterwards.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyMedmoriser snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            storage.saveMedmoriser(snapshot);
+            logger.fine("Saved " + snapshot.getQAndAList().size() + " qAndAs in the background");
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Background save failed: " + e);
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.medmoriser.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.medmoriser.commons.core.LogsCenter;
+import seedu.medmoriser.commons.exceptions.DataConversionException;
+import seedu.medmoriser.commons.exceptions.IllegalValueException;
+import seedu.medmoriser.commons.util.FileUtil;
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+
+/**
+ * A class to access Medmoriser data stored in the binary format of {@link BinarySerializableMedmoriser}
+ * on the hard disk. The file is smaller and faster to load and save than the json one.
+ * <p>
+ * Json remains the format for exchanging data: when given an import file, {@link #readMedmoriser()} reads it
+ * instead of the binary file if the binary file does not exist yet or the json file is newer.
+ * <p>
+ * It can also leave the answers in the file, so that only the questions and tags are kept in memory and each answer
+ * is read back when it is shown or searched. See {@link AnswerFile}.
+ */
+public class BinaryMedmoriserStorage implements MedmoriserStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryMedmoriserStorage.class);
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private final Path filePath;
+    private final Optional<Path> importFilePath;
+    private final boolean isLoadingAnswersLazily;
+
+    public BinaryMedmoriserStorage(Path filePath) {
+        this.filePath = filePath;
+        this.importFilePath = Optional.empty();
+        this.isLoadingAnswersLazily = false;
+    }
+
+    /**
+     * Creates a {@code BinaryMedmoriserStorage} for the file at {@code filePath}
+     * that imports the json file at {@code importFilePath} whenever it is newer.
+     */
+    public BinaryMedmoriserStorage(Path filePath, Path importFilePath) {
+        this(filePath, importFilePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryMedmoriserStorage} for the file at {@code filePath}
+     * that imports the json file at {@code importFilePath} whenever it is newer.
+     *
+     * @param isLoadingAnswersLazily whether answers read from the binary file are left in it until needed.
+     */
+    public BinaryMedmoriserStorage(Path filePath, Path importFilePath, boolean isLoadingAnswersLazily) {
+        requireNonNull(importFilePath);
+        this.filePath = filePath;
+        this.importFilePath = Optional.of(importFilePath);
+        this.isLoadingAnswersLazily = isLoadingAnswersLazily;
+    }
+
+    public Path getMedmoriserFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int getQuarantinedCount() {
+        return 0;
+    }
+
+    @Override
+    public Optional<ReadOnlyMedmoriser> readMedmoriser() throws DataConversionException {
+        if (importFilePath.isPresent() && isNewer(importFilePath.get(), filePath)) {
+            logger.info("Importing json file " + importFilePath.get() + " as it is newer than " + filePath);
+            return new JsonMedmoriserStorage(importFilePath.get()).readMedmoriser();
+        }
+        return readMedmoriser(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMedmoriser()}, but never imports from json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyMedmoriser> readMedmoriser(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (isLoadingAnswersLazily) {
+                return Optional.of(readLeavingAnswersInFile(filePath));
+            }
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(BinarySerializableMedmoriser.readModelType(data));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the file at {@code filePath}, keeping it open for the answers to be read from later.
+     */
+    private static Medmoriser readLeavingAnswersInFile(Path filePath) throws IOException, IllegalValueException {
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            ByteBuffer data = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (data.hasRemaining()) {
+                if (channel.read(data) < 0) {
+                    throw new IOException(BinarySerializableMedmoriser.MESSAGE_TRUNCATED);
+                }
+            }
+            data.flip();
+            AnswerFile answerFile = new AnswerFile(channel, data, AnswerFile.DEFAULT_CACHE_CAPACITY);
+            Medmoriser medmoriser = BinarySerializableMedmoriser.readModelType(data, answerFile);
+            answerFile.finishLoading();
+            return medmoriser;
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveMedmoriser(ReadOnlyMedmoriser medmoriser) throws IOException {
+        saveMedmoriser(medmoriser, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMedmoriser(ReadOnlyMedmoriser)}.
+     * The file is replaced atomically, and the previous data is kept as a rollback file,
+     * as in {@link JsonMedmoriserStorage#saveMedmoriser(ReadOnlyMedmoriser, Path)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveMedmoriser(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+        requireNonNull(medmoriser);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, JsonMedmoriserStorage.getRollbackFilePath(filePath), tempFile -> {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                BinarySerializableMedmoriser.writeModelType(medmoriser, out);
+            }
+        });
+    }
+
+    /**
+     * Returns the location of the binary file to keep next to the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    private static boolean isNewer(Path file, Path otherFile) throws DataConversionException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        if (!Files.exists(otherFile)) {
+            return true;
+        }
+        try {
+            return Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(otherFile)) > 0;
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+}
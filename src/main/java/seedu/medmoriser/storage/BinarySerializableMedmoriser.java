@@ -0,0 +1,352 @@
+package seedu.medmoriser.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.medmoriser.commons.exceptions.IllegalValueException;
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+import seedu.medmoriser.model.qanda.Answer;
+import seedu.medmoriser.model.qanda.AnswerHandle;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.Question;
+import seedu.medmoriser.model.tag.Tag;
+import seedu.medmoriser.model.tag.TagDictionary;
+
+/**
+ * Converts a Medmoriser to and from a compact binary format.
+ * <p>
+ * The data starts with a header of the magic bytes {@code MDMB}, a one-byte format version and the big-endian
+ * CRC-32 of the rest of the data. Next comes a string table holding each distinct tag name once, then the qAndAs.
+ * Each qAndA is a record prefixed by its length in bytes, so a reader can skip it without decoding it. A record
+ * holds the id, the question, the answer and the positions of its tags in the string table.
+ * Counts, lengths and ids are unsigned LEB128 varints, and strings are a varint byte length followed by UTF-8.
+ */
+class BinarySerializableMedmoriser {
+
+    public static final String MESSAGE_NOT_BINARY = "Data is not in the binary medmoriser format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary medmoriser format version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary medmoriser data is corrupted: checksum mismatch.";
+    public static final String MESSAGE_TRUNCATED = "Binary medmoriser data is corrupted: it ends unexpectedly.";
+    public static final String MESSAGE_INVALID_TAG_INDEX = "Binary medmoriser data refers to a missing tag.";
+
+    static final byte[] MAGIC = {'M', 'D', 'M', 'B'};
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = MAGIC.length + 1 + Integer.BYTES;
+
+    private BinarySerializableMedmoriser() {}
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format.
+     * The data is encoded in memory first, because the checksum in the header covers all of it.
+     *
+     * @throws IOException if there was any problem writing to {@code out}.
+     */
+    public static void writeModelType(ReadOnlyMedmoriser source, OutputStream out) throws IOException {
+        List<QAndA> qAndAs = source.getQAndAList();
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        for (QAndA qAndA : qAndAs) {
+            for (Tag tag : qAndA.getTags()) {
+                tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size());
+            }
+        }
+
+        Encoder encoder = new Encoder(64 * qAndAs.size() + 1024);
+        encoder.write(MAGIC, 0, MAGIC.length);
+        encoder.write(VERSION);
+        encoder.writeInt(0); // the checksum, filled in below
+
+        encoder.writeVarLong(tagIndexes.size());
+        for (String tagName : tagIndexes.keySet()) {
+            encoder.writeString(tagName.getBytes(StandardCharsets.UTF_8));
+        }
+
+        encoder.writeVarLong(qAndAs.size());
+        for (QAndA qAndA : qAndAs) {
+            byte[] question = qAndA.getQuestion().question.getBytes(StandardCharsets.UTF_8);
+            byte[] answer = qAndA.getAnswer().answer.getBytes(StandardCharsets.UTF_8);
+            Set<Tag> tags = qAndA.getTags();
+            int[] indexes = new int[tags.size()];
+            int i = 0;
+            for (Tag tag : tags) {
+                indexes[i++] = tagIndexes.get(tag.tagName);
+            }
+
+            int recordLength = varLongSize(qAndA.getId()) + stringSize(question) + stringSize(answer)
+                    + varLongSize(indexes.length);
+            for (int index : indexes) {
+                recordLength += varLongSize(index);
+            }
+            encoder.writeVarLong(recordLength);
+            encoder.writeVarLong(qAndA.getId());
+            encoder.writeString(question);
+            encoder.writeString(answer);
+            encoder.writeVarLong(indexes.length);
+            for (int index : indexes) {
+                encoder.writeVarLong(index);
+            }
+        }
+
+        encoder.fillInChecksum();
+        encoder.writeTo(out);
+    }
+
+    /**
+     * Reads a medmoriser in the binary format from the remaining bytes of {@code data}
+     * into the model's {@code Medmoriser}.
+     *
+     * @throws IOException if the data is not in the binary format, or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Medmoriser readModelType(ByteBuffer data) throws IOException, IllegalValueException {
+        return readModelType(data, Optional.empty());
+    }
+
+    /**
+     * Similar to {@link #readModelType(ByteBuffer)}, but the answers are left in the file behind handles
+     * from {@code answerFile}. {@code data} must hold the whole file, so that its positions are file offsets.
+     */
+    public static Medmoriser readModelType(ByteBuffer data, AnswerFile answerFile)
+            throws IOException, IllegalValueException {
+        requireNonNull(answerFile);
+        return readModelType(data, Optional.of(answerFile));
+    }
+
+    private static Medmoriser readModelType(ByteBuffer data, Optional<AnswerFile> answerFile)
+            throws IOException, IllegalValueException {
+        ByteBuffer buffer = data.slice();
+        try {
+            checkHeader(buffer);
+            int[] tagIds = readTagTable(buffer);
+
+            int qAndACount = readCount(buffer);
+            List<QAndA> modelQAndAs = new ArrayList<>(qAndACount);
+            Set<Long> seenIds = new HashSet<>();
+            for (int i = 0; i < qAndACount; i++) {
+                readCount(buffer); // the record length, which is only needed to skip records
+                QAndA qAndA = readQAndA(buffer, tagIds, answerFile);
+                if (!seenIds.add(qAndA.getId())) {
+                    qAndA = new QAndA(qAndA.getQuestion(), qAndA.getAnswer(), qAndA.getTags());
+                    seenIds.add(qAndA.getId());
+                }
+                modelQAndAs.add(qAndA);
+            }
+            return JsonSerializableMedmoriser.toMedmoriser(modelQAndAs);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    /**
+     * Reads the header from {@code buffer}, checking that the rest of the data matches its checksum.
+     */
+    static void checkHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int checksum = buffer.getInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    /**
+     * Reads the string table from {@code buffer}.
+     *
+     * @return the {@link TagDictionary} ids of the tags, in the order of the table.
+     */
+    static int[] readTagTable(ByteBuffer buffer) throws IOException, IllegalValueException {
+        int tagCount = readCount(buffer);
+        int[] tagIds = new int[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(buffer);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tagIds[i] = TagDictionary.idOf(new Tag(tagName));
+        }
+        return tagIds;
+    }
+
+    /**
+     * Reads the qAndA record that starts just after its length in {@code buffer}.
+     *
+     * @param tagIds the ids returned by {@link #readTagTable(ByteBuffer)}.
+     */
+    static QAndA readQAndA(ByteBuffer buffer, int[] tagIds) throws IOException, IllegalValueException {
+        return readQAndA(buffer, tagIds, Optional.empty());
+    }
+
+    private static QAndA readQAndA(ByteBuffer buffer, int[] tagIds, Optional<AnswerFile> answerFile)
+            throws IOException, IllegalValueException {
+        long id = readVarLong(buffer);
+        String question = readString(buffer);
+        if (!Question.isValidQuestion(question)) {
+            throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
+        }
+        int answerLength = readCount(buffer);
+        int answerPosition = buffer.position();
+        String answer = readString(buffer, answerLength);
+        if (!Answer.isValidAnswer(answer)) {
+            throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+        }
+        AnswerHandle answerHandle = answerFile.isPresent()
+                ? answerFile.get().handleAt(answerPosition, answerLength)
+                : new Answer(answer);
+
+        int tagCount = readCount(buffer);
+        int[] ids = new int[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            long index = readVarLong(buffer);
+            if (index < 0 || index >= tagIds.length) {
+                throw new IOException(MESSAGE_INVALID_TAG_INDEX);
+            }
+            ids[i] = tagIds[(int) index];
+        }
+        Arrays.sort(ids);
+        return new QAndA(id, new Question(question), answerHandle, TagDictionary.asSet(ids));
+    }
+
+    /**
+     * Reads only the question of the qAndA record at the position of {@code buffer}, without checking it.
+     */
+    static String readQuestion(ByteBuffer buffer) throws IOException {
+        readVarLong(buffer);
+        return readString(buffer);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint from {@code buffer}.
+     */
+    static long readVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_NOT_BINARY);
+    }
+
+    /**
+     * Reads a varint that counts or measures something in {@code buffer}, so cannot exceed its size.
+     */
+    static int readCount(ByteBuffer buffer) throws IOException {
+        long count = readVarLong(buffer);
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Reads a string written by {@link Encoder#writeString(byte[])} from {@code buffer}.
+     */
+    static String readString(ByteBuffer buffer) throws IOException {
+        return readString(buffer, readCount(buffer));
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        String string;
+        if (buffer.hasArray()) {
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    /**
+     * Returns the number of bytes {@code value} takes as a varint.
+     */
+    static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int stringSize(byte[] string) {
+        return varLongSize(string.length) + string.length;
+    }
+
+    /**
+     * A growable buffer of binary data that exposes its contents, so they can be checksummed without copying.
+     */
+    static class Encoder extends ByteArrayOutputStream {
+
+        Encoder(int initialSize) {
+            super(initialSize);
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(byte[] string) {
+            writeVarLong(string.length);
+            write(string, 0, string.length);
+        }
+
+        /**
+         * Writes the CRC-32 of everything after the header into the header.
+         */
+        void fillInChecksum() {
+            CRC32 crc = new CRC32();
+            crc.update(buf, HEADER_SIZE, count - HEADER_SIZE);
+            int checksum = (int) crc.getValue();
+            int offset = HEADER_SIZE - Integer.BYTES;
+            buf[offset] = (byte) (checksum >>> 24);
+            buf[offset + 1] = (byte) (checksum >>> 16);
+            buf[offset + 2] = (byte) (checksum >>> 8);
+            buf[offset + 3] = (byte) checksum;
+        }
+    }
+
+}
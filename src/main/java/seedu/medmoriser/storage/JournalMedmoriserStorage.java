@@ -0,0 +1,336 @@
+package seedu.medmoriser.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.medmoriser.commons.core.LogsCenter;
+import seedu.medmoriser.commons.exceptions.DataConversionException;
+import seedu.medmoriser.commons.exceptions.IllegalValueException;
+import seedu.medmoriser.commons.util.FileUtil;
+import seedu.medmoriser.commons.util.JsonUtil;
+import seedu.medmoriser.model.ChangeLog;
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * A class to access Medmoriser data stored as a json snapshot plus a journal of later changes on the hard disk.
+ * Each save appends one line holding only the qAndAs that were added, edited or deleted since the previous save,
+ * so its cost depends on the size of the change rather than the size of the medmoriser. The changes are taken from
+ * the medmoriser's {@link ChangeLog}, so the qAndAs are never compared with what was saved before.
+ * Once the journal holds too many changes or bytes, the next save writes a fresh snapshot and empties the journal.
+ * The snapshot is in the same format as the file of a {@link JsonMedmoriserStorage}.
+ */
+public class JournalMedmoriserStorage implements MedmoriserStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 4L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalMedmoriserStorage.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String JOURNAL_ID_FIELD = "journalId";
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final int maxJournalEntries;
+    private final long maxJournalBytes;
+
+    // The change log position of the data last read from or saved to persistedPath, which the next save to it
+    // follows on from. A null journalId means the journal cannot be appended to, so the next save writes a snapshot.
+    private Path persistedPath;
+    private ChangeLog.Position persistedPosition;
+    private String journalId;
+    private int journalEntries;
+    private long journalBytes;
+
+    public JournalMedmoriserStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournalMedmoriserStorage} for the snapshot at {@code filePath}, which is compacted
+     * after {@link #DEFAULT_MAX_JOURNAL_ENTRIES} changes or {@link #DEFAULT_MAX_JOURNAL_BYTES} bytes.
+     *
+     * @param isCompact whether to save snapshots without the indentation that makes them easier to read by hand.
+     */
+    public JournalMedmoriserStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_MAX_JOURNAL_ENTRIES, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalMedmoriserStorage} for the snapshot at {@code filePath}.
+     *
+     * @param maxJournalEntries the number of changed qAndAs the journal may hold before it is compacted.
+     * @param maxJournalBytes the size the journal may grow to before it is compacted.
+     */
+    public JournalMedmoriserStorage(Path filePath, boolean isCompact, int maxJournalEntries, long maxJournalBytes) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.maxJournalEntries = maxJournalEntries;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    public Path getMedmoriserFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int getQuarantinedCount() {
+        return 0;
+    }
+
+    @Override
+    public Optional<ReadOnlyMedmoriser> readMedmoriser() throws DataConversionException {
+        return readMedmoriser(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMedmoriser()}.
+     * The journal is replayed on top of the snapshot, except for entries written for an older snapshot.
+     * A last journal line that was only partly written is ignored.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyMedmoriser> readMedmoriser(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        persistedPath = null;
+        try {
+            Medmoriser medmoriser = readSnapshotAndJournal(filePath);
+            setPersisted(filePath, medmoriser);
+            return Optional.of(medmoriser);
+        } catch (IOException e) {
+            logger.warning("Error reading from journalled file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private Medmoriser readSnapshotAndJournal(Path filePath) throws IOException, IllegalValueException {
+        Map<String, String> otherFields = new HashMap<>();
+        Medmoriser snapshot;
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            snapshot = JsonSerializableMedmoriser.readModelType(parser, otherFields);
+        }
+        journalId = otherFields.get(JOURNAL_ID_FIELD);
+        journalEntries = 0;
+        journalBytes = 0;
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+        journalBytes = Files.size(journalFilePath);
+
+        Map<Long, QAndA> qAndAs = new LinkedHashMap<>();
+        for (QAndA qAndA : snapshot.getQAndAList()) {
+            qAndAs.put(qAndA.getId(), qAndA);
+        }
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    // an interrupted append leaves a partial last line; the save it belonged to never completed
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    journalId = null;
+                    break;
+                }
+                if (journalId != null && journalId.equals(entry.getJournalId())) {
+                    entry.applyTo(qAndAs);
+                    journalEntries += entry.size();
+                    replayed++;
+                }
+                line = nextLine;
+            }
+        }
+        logger.info("Replayed " + replayed + " journal entries from " + journalFilePath);
+        if (replayed == 0) {
+            return snapshot;
+        }
+        return JsonSerializableMedmoriser.toMedmoriser(new ArrayList<>(qAndAs.values()));
+    }
+
+    @Override
+    public void saveMedmoriser(ReadOnlyMedmoriser medmoriser) throws IOException {
+        saveMedmoriser(medmoriser, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMedmoriser(ReadOnlyMedmoriser)}.
+     * Only the changes since the data was last read from or saved to {@code filePath} are appended to the journal.
+     * A full snapshot is written instead when there is no such data, the change log of {@code medmoriser} does not
+     * reach back to it, or the journal has grown too long.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveMedmoriser(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+        requireNonNull(medmoriser);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(persistedPath) || journalId == null || persistedPosition == null) {
+            compact(medmoriser, filePath);
+            return;
+        }
+
+        Optional<ChangeLog.Position> position = medmoriser.getChangeLogPosition();
+        Optional<List<ChangeLog.Change>> changes = position.flatMap(p -> p.getChangesSince(persistedPosition));
+        if (changes.isEmpty()) {
+            logger.fine("The changes since the last save are not known, so the journal cannot record them");
+            compact(medmoriser, filePath);
+            return;
+        }
+
+        Map<Long, QAndA> changed = new LinkedHashMap<>();
+        Set<Long> deleted = new LinkedHashSet<>();
+        if (!collectChanges(changes.get(), changed, deleted)) {
+            logger.fine("A qAndA was replaced by one with another id, so the journal cannot record the change");
+            compact(medmoriser, filePath);
+            return;
+        }
+        int changeCount = changed.size() + deleted.size();
+        if (changeCount == 0) {
+            persistedPosition = position.get();
+            return;
+        }
+        if (journalEntries + changeCount > maxJournalEntries || journalBytes > maxJournalBytes) {
+            compact(medmoriser, filePath);
+            return;
+        }
+        appendToJournal(new ArrayList<>(changed.values()), new ArrayList<>(deleted), position.get(), filePath);
+    }
+
+    /**
+     * Fills {@code changed} with the qAndAs added or edited by {@code changes}, by id, and {@code deleted} with the ids
+     * of the qAndAs they removed, in the order that replaying them keeps the qAndAs in.
+     * A qAndA removed and then added again is both deleted and changed, so that replaying it moves it to the end.
+     *
+     * @return false if a qAndA was replaced in place by one with another id, which the journal cannot record.
+     */
+    private static boolean collectChanges(List<ChangeLog.Change> changes, Map<Long, QAndA> changed,
+                                          Set<Long> deleted) {
+        for (ChangeLog.Change change : changes) {
+            Optional<QAndA> removed = change.getRemoved();
+            Optional<QAndA> added = change.getAdded();
+            if (removed.isPresent() && added.isPresent()) {
+                if (removed.get().getId() != added.get().getId()) {
+                    return false;
+                }
+                changed.put(added.get().getId(), added.get());
+            } else if (removed.isPresent()) {
+                changed.remove(removed.get().getId());
+                deleted.add(removed.get().getId());
+            } else if (added.isPresent()) {
+                changed.put(added.get().getId(), added.get());
+            }
+        }
+        return true;
+    }
+
+    private void appendToJournal(List<QAndA> changed, List<Long> deleted, ChangeLog.Position position,
+                                 Path filePath) throws IOException {
+        List<JsonAdaptedQAndA> put = new ArrayList<>(changed.size());
+        for (QAndA qAndA : changed) {
+            put.add(new JsonAdaptedQAndA(qAndA));
+        }
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(line, false)) {
+            generator.writeObject(new JsonAdaptedJournalEntry(journalId, put, deleted));
+        }
+        line.write('\n');
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // the journal may now end in a partial line, so it must not be appended to again
+            journalId = null;
+            throw e;
+        }
+
+        journalEntries += changed.size() + deleted.size();
+        journalBytes += line.size();
+        persistedPosition = position;
+        logger.fine("Appended " + changed.size() + " changed and " + deleted.size() + " deleted qAndAs to "
+                + journalFilePath);
+    }
+
+    /**
+     * Writes {@code medmoriser} as a new snapshot at {@code filePath} and empties its journal.
+     * The snapshot gets a new journal id first, so entries left in the old journal are never replayed onto it,
+     * even if the journal cannot be emptied.
+     */
+    private void compact(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+        String newJournalId = UUID.randomUUID().toString();
+        Map<String, String> otherFields = Map.of(JOURNAL_ID_FIELD, newJournalId);
+
+        persistedPath = null;
+        FileUtil.writeAtomically(filePath, JsonMedmoriserStorage.getRollbackFilePath(filePath), tempFile -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(tempFile, !isCompact)) {
+                JsonSerializableMedmoriser.writeModelType(medmoriser, generator, otherFields);
+            }
+        });
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        journalId = newJournalId;
+        journalEntries = 0;
+        journalBytes = 0;
+        setPersisted(filePath, medmoriser);
+        logger.fine("Compacted " + medmoriser.getQAndAList().size() + " qAndAs into " + filePath);
+    }
+
+    private void setPersisted(Path filePath, ReadOnlyMedmoriser medmoriser) {
+        persistedPath = filePath;
+        persistedPosition = medmoriser.getChangeLogPosition().orElse(null);
+    }
+
+    /**
+     * Returns the location of the journal of changes made since the snapshot at {@code filePath} was written.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+}
@@ -0,0 +1,67 @@
+package seedu.medmoriser.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.medmoriser.commons.exceptions.IllegalValueException;
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * Jackson-friendly version of one save recorded in a medmoriser journal.
+ * It holds the qAndAs added or changed by the save and the ids of the qAndAs it deleted.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final String journalId;
+    private final List<JsonAdaptedQAndA> put = new ArrayList<>();
+    private final List<Long> delete = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     * A journal entry only applies to the snapshot saved with the same {@code journalId}.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("journalId") String journalId,
+                                   @JsonProperty("put") List<JsonAdaptedQAndA> put,
+                                   @JsonProperty("delete") List<Long> delete) {
+        this.journalId = journalId;
+        if (put != null) {
+            this.put.addAll(put);
+        }
+        if (delete != null) {
+            this.delete.addAll(delete);
+        }
+    }
+
+    public String getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * Returns the number of qAndAs added, changed or deleted.
+     */
+    public int size() {
+        return put.size() + delete.size();
+    }
+
+    /**
+     * Applies the changes to {@code qAndAs}, which maps ids to qAndAs in their list order.
+     * A changed qAndA keeps its place, while an added one goes to the end.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted qAndAs.
+     */
+    public void applyTo(Map<Long, QAndA> qAndAs) throws IllegalValueException {
+        for (Long id : delete) {
+            qAndAs.remove(id);
+        }
+        for (JsonAdaptedQAndA jsonAdaptedQAndA : put) {
+            QAndA qAndA = jsonAdaptedQAndA.toModelType();
+            qAndAs.put(qAndA.getId(), qAndA);
+        }
+    }
+
+}
@@ -22,16 +22,20 @@ class JsonAdaptedQAndA {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "QAndA's %s field is missing!";
 
+    private final Long id;
     private final String question;
     private final String answer;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedQAndA} with the given qAndA details.
+     * A {@code null} {@code id} denotes a record saved before ids were persisted.
      */
     @JsonCreator
-    public JsonAdaptedQAndA(@JsonProperty("name") String question, @JsonProperty("answer") String answer,
+    public JsonAdaptedQAndA(@JsonProperty("id") Long id, @JsonProperty("name") String question,
+                            @JsonProperty("answer") String answer,
                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.question = question;
         this.answer = answer;
         if (tagged != null) {
@@ -39,10 +43,18 @@ class JsonAdaptedQAndA {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedQAndA} without an id, which is assigned on conversion.
+     */
+    public JsonAdaptedQAndA(String question, String answer, List<JsonAdaptedTag> tagged) {
+        this(null, question, answer, tagged);
+    }
+
     /**
      * Converts a given {@code QAndA} into this class for Jackson use.
      */
     public JsonAdaptedQAndA(QAndA source) {
+        id = source.getId();
         question = source.getQuestion().question;
         answer = source.getAnswer().answer;
         tagged.addAll(source.getTags().stream()
@@ -79,7 +91,10 @@ class JsonAdaptedQAndA {
         final Answer modelAnswer = new Answer(answer);
 
         final Set<Tag> modelTags = new HashSet<>(qAndATags);
-        return new QAndA(modelQuestion, modelAnswer, modelTags);
+        if (id == null) {
+            return new QAndA(modelQuestion, modelAnswer, modelTags);
+        }
+        return new QAndA(id, modelQuestion, modelAnswer, modelTags);
     }
 
 }
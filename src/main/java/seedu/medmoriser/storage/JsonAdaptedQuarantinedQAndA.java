@@ -0,0 +1,41 @@
+package seedu.medmoriser.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Jackson-friendly record of a qAndA that was set aside when loading a medmoriser file,
+ * together with where it was found and why it could not be loaded.
+ */
+class JsonAdaptedQuarantinedQAndA {
+
+    private final int position;
+    private final Integer line;
+    private final String problem;
+    private final JsonNode qAndA;
+
+    /**
+     * Constructs a {@code JsonAdaptedQuarantinedQAndA} for the {@code position}th qAndA in the file, counting from 1.
+     * A {@code null} {@code line} denotes that the line on which the qAndA starts is not known.
+     * The qAndA is kept as the JSON record it was read from, since it may not even have the shape of a qAndA.
+     */
+    @JsonCreator
+    public JsonAdaptedQuarantinedQAndA(@JsonProperty("position") int position, @JsonProperty("line") Integer line,
+                                       @JsonProperty("problem") String problem,
+                                       @JsonProperty("qAndA") JsonNode qAndA) {
+        this.position = position;
+        this.line = line;
+        this.problem = problem;
+        this.qAndA = qAndA;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public String getProblem() {
+        return problem;
+    }
+
+}
@@ -2,11 +2,22 @@ package seedu.medmoriser.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.medmoriser.commons.core.LogsCenter;
 import seedu.medmoriser.commons.exceptions.DataConversionException;
 import seedu.medmoriser.commons.exceptions.IllegalValueException;
@@ -16,21 +27,56 @@ import seedu.medmoriser.model.ReadOnlyMedmoriser;
 
 /**
  * A class to access Medmoriser data stored as a json file on the hard disk.
+ * <p>
+ * Normally a single invalid qAndA makes the whole file unreadable. When quarantining, such qAndAs and ones that
+ * duplicate an earlier question are appended to the quarantine file next to it instead, one JSON object per line,
+ * and the rest of the file is loaded.
  */
 public class JsonMedmoriserStorage implements MedmoriserStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonMedmoriserStorage.class);
+    private static final String ROLLBACK_FILE_SUFFIX = ".bak";
+    private static final String QUARANTINE_FILE_SUFFIX = ".quarantine";
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isQuarantining;
+    private int quarantinedCount = 0;
 
     public JsonMedmoriserStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonMedmoriserStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact whether to save without the indentation that makes the file easier to read by hand.
+     */
+    public JsonMedmoriserStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonMedmoriserStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact whether to save without the indentation that makes the file easier to read by hand.
+     * @param isQuarantining whether to set bad qAndAs aside when reading, rather than fail.
+     */
+    public JsonMedmoriserStorage(Path filePath, boolean isCompact, boolean isQuarantining) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isQuarantining = isQuarantining;
     }
 
     public Path getMedmoriserFilePath() {
         return filePath;
     }
 
+    @Override
+    public int getQuarantinedCount() {
+        return quarantinedCount;
+    }
+
     @Override
     public Optional<ReadOnlyMedmoriser> readMedmoriser() throws DataConversionException {
         return readMedmoriser(filePath);
@@ -38,6 +84,7 @@ public class JsonMedmoriserStorage implements MedmoriserStorage {
 
     /**
      * Similar to {@link #readMedmoriser()}.
+     * The file is streamed rather than read into memory in full, so that only the resulting model has to fit.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,14 +92,23 @@ public class JsonMedmoriserStorage implements MedmoriserStorage {
     public Optional<ReadOnlyMedmoriser> readMedmoriser(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableMedmoriser> jsonMedmoriser = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMedmoriser.class);
-        if (!jsonMedmoriser.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonMedmoriser.get().toModelType());
+        quarantinedCount = 0;
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (!isQuarantining) {
+                return Optional.of(JsonSerializableMedmoriser.readModelType(parser));
+            }
+            List<JsonAdaptedQuarantinedQAndA> quarantined = new ArrayList<>();
+            ReadOnlyMedmoriser medmoriser = JsonSerializableMedmoriser.readModelType(parser, quarantined);
+            quarantine(quarantined, filePath);
+            return Optional.of(medmoriser);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,6 +122,9 @@ public class JsonMedmoriserStorage implements MedmoriserStorage {
 
     /**
      * Similar to {@link #saveMedmoriser(ReadOnlyMedmoriser)}.
+     * The qAndAs are streamed to the file one at a time rather than rendered in memory first.
+     * The file is replaced atomically, so a failed or interrupted save leaves the previous data intact,
+     * and the previous data is kept in the file at {@link #getRollbackFilePath(Path)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +132,59 @@ public class JsonMedmoriserStorage implements MedmoriserStorage {
         requireNonNull(medmoriser);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMedmoriser(medmoriser), filePath);
+        FileUtil.writeAtomically(filePath, getRollbackFilePath(filePath), tempFile -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(tempFile, !isCompact)) {
+                JsonSerializableMedmoriser.writeModelType(medmoriser, generator);
+            }
+        });
+    }
+
+    /**
+     * Appends {@code quarantined} to the quarantine file of {@code filePath}, skipping any already in it, as when
+     * the data file is read again before it has been saved without them.
+     */
+    private void quarantine(List<JsonAdaptedQuarantinedQAndA> quarantined, Path filePath) throws IOException {
+        if (quarantined.isEmpty()) {
+            return;
+        }
+        Path quarantineFilePath = getQuarantineFilePath(filePath);
+        for (JsonAdaptedQuarantinedQAndA qAndA : quarantined) {
+            logger.warning("Quarantining qAndA " + qAndA.getPosition() + " of " + filePath + ": "
+                    + qAndA.getProblem());
+        }
+
+        Set<String> alreadyQuarantined = new HashSet<>();
+        if (Files.exists(quarantineFilePath)) {
+            alreadyQuarantined.addAll(Files.readAllLines(quarantineFilePath, StandardCharsets.UTF_8));
+        }
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (JsonAdaptedQuarantinedQAndA qAndA : quarantined) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            try (JsonGenerator generator = JsonUtil.createGenerator(line, false)) {
+                generator.writeObject(qAndA);
+            }
+            if (alreadyQuarantined.add(line.toString(StandardCharsets.UTF_8))) {
+                line.writeTo(lines);
+                lines.write('\n');
+            }
+        }
+        Files.write(quarantineFilePath, lines.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        quarantinedCount = quarantined.size();
+        logger.info("Quarantined " + quarantinedCount + " qAndAs of " + filePath + " in " + quarantineFilePath);
+    }
+
+    /**
+     * Returns the location of the qAndAs set aside when reading {@code filePath}.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location of the data saved before the latest save to {@code filePath}.
+     */
+    public static Path getRollbackFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ROLLBACK_FILE_SUFFIX);
     }
 
 }
@@ -1,17 +1,36 @@
 package seedu.medmoriser.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import seedu.medmoriser.commons.exceptions.IllegalValueException;
 import seedu.medmoriser.model.Medmoriser;
 import seedu.medmoriser.model.ReadOnlyMedmoriser;
 import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.Question;
+import seedu.medmoriser.model.qanda.exceptions.DuplicateQAndAException;
 
 /**
  * An Immutable Medmoriser that is serializable to JSON format.
@@ -20,6 +39,13 @@ import seedu.medmoriser.model.qanda.QAndA;
 class JsonSerializableMedmoriser {
 
     public static final String MESSAGE_DUPLICATE_QANDA = "QAndAs list contains duplicate qAndA(s).";
+    public static final String MESSAGE_INVALID_QANDAS = "QAndAs list contains %d invalid qAndA(s):";
+    public static final String MESSAGE_INVALID_QANDA = "qAndA %d: %s";
+    public static final String MESSAGE_INVALID_QANDA_AT_LINE = "qAndA %d (line %d): %s";
+    public static final String MESSAGE_MALFORMED_QANDA = "Malformed qAndA: %s";
+
+    /** The number of qAndAs converted together; fewer than this are converted in the calling thread. */
+    static final int BATCH_SIZE = 4096;
 
     private final List<JsonAdaptedQAndA> qAndAs = new ArrayList<>();
 
@@ -47,15 +73,278 @@ class JsonSerializableMedmoriser {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Medmoriser toModelType() throws IllegalValueException {
-        Medmoriser medmoriser = new Medmoriser();
-        for (JsonAdaptedQAndA jsonAdaptedQAndA : qAndAs) {
-            QAndA qAndA = jsonAdaptedQAndA.toModelType();
-            if (medmoriser.hasQAndA(qAndA)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_QANDA);
+        Conversion conversion = new Conversion();
+        conversion.convert(qAndAs, null);
+        return conversion.toMedmoriser();
+    }
+
+    /**
+     * Reads a medmoriser saved in this class's JSON format from {@code parser} into the model's {@code Medmoriser}.
+     * The qAndAs are converted in batches as they are parsed, so only one batch of adapted qAndAs is held in memory
+     * at a time.
+     *
+     * @throws IOException if the JSON could not be read or does not have the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Medmoriser readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, new HashMap<>());
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, but also puts the text of every top-level field other than
+     * the qAndAs that holds a single value, such as a string or number, into {@code otherFields}.
+     */
+    public static Medmoriser readModelType(JsonParser parser, Map<String, String> otherFields)
+            throws IOException, IllegalValueException {
+        return readModelType(parser, otherFields, new Conversion());
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, but tolerates bad qAndAs. Instead of failing, qAndAs that are
+     * invalid or have the same question as an earlier one are left out and added to {@code quarantined}.
+     *
+     * @throws IOException if the JSON could not be read or does not have the expected structure.
+     */
+    public static Medmoriser readModelType(JsonParser parser, List<JsonAdaptedQuarantinedQAndA> quarantined)
+            throws IOException {
+        requireNonNull(quarantined);
+        try {
+            return readModelType(parser, new HashMap<>(), new Conversion(quarantined));
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Bad qAndAs are quarantined rather than reported", ive);
+        }
+    }
+
+    private static Medmoriser readModelType(JsonParser parser, Map<String, String> otherFields,
+            Conversion conversion) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldName.equals("qAndAs") || value == JsonToken.VALUE_NULL) {
+                if (value.isScalarValue()) {
+                    otherFields.put(fieldName, parser.getText());
+                }
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected qAndAs to be an array");
+            }
+            if (conversion.isQuarantining()) {
+                readRecords(parser, conversion);
+                continue;
+            }
+            List<JsonAdaptedQAndA> batch = new ArrayList<>(BATCH_SIZE);
+            int[] lines = new int[BATCH_SIZE];
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                lines[batch.size()] = parser.getTokenLocation().getLineNr();
+                batch.add(parser.readValueAs(JsonAdaptedQAndA.class));
+                if (batch.size() == BATCH_SIZE) {
+                    conversion.convert(batch, lines);
+                    batch.clear();
+                }
+            }
+            conversion.convert(batch, lines);
+        }
+        return conversion.toMedmoriser();
+    }
+
+    /**
+     * Reads the elements of the qAndAs array {@code parser} is at the start of into {@code conversion}.
+     * Each element is read whole before it is adapted, so that one of the wrong shape, such as one with a string
+     * where a list is expected, can be quarantined by itself rather than end the read.
+     */
+    private static void readRecords(JsonParser parser, Conversion conversion) throws IOException {
+        List<JsonNode> batch = new ArrayList<>(BATCH_SIZE);
+        int[] lines = new int[BATCH_SIZE];
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            lines[batch.size()] = parser.getTokenLocation().getLineNr();
+            batch.add(parser.readValueAsTree());
+            if (batch.size() == BATCH_SIZE) {
+                conversion.convertRecords(batch, lines, parser.getCodec());
+                batch.clear();
             }
-            medmoriser.addQAndA(qAndA);
+        }
+        conversion.convertRecords(batch, lines, parser.getCodec());
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in this class's JSON format.
+     * Each qAndA is adapted just before it is written, so the adapted medmoriser is never held in memory in full.
+     *
+     * @throws IOException if there was any problem writing the JSON.
+     */
+    public static void writeModelType(ReadOnlyMedmoriser source, JsonGenerator generator) throws IOException {
+        writeModelType(source, generator, Collections.emptyMap());
+    }
+
+    /**
+     * Similar to {@link #writeModelType(ReadOnlyMedmoriser, JsonGenerator)}, but also writes {@code otherFields}
+     * as top-level string fields before the qAndAs.
+     */
+    public static void writeModelType(ReadOnlyMedmoriser source, JsonGenerator generator,
+            Map<String, String> otherFields) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, String> field : otherFields.entrySet()) {
+            generator.writeStringField(field.getKey(), field.getValue());
+        }
+        generator.writeFieldName("qAndAs");
+        generator.writeStartArray();
+        for (QAndA qAndA : source.getQAndAList()) {
+            generator.writeObject(new JsonAdaptedQAndA(qAndA));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns a {@code Medmoriser} holding {@code modelQAndAs}.
+     *
+     * @throws IllegalValueException if {@code modelQAndAs} contains duplicates.
+     */
+    static Medmoriser toMedmoriser(List<QAndA> modelQAndAs) throws IllegalValueException {
+        Medmoriser medmoriser = new Medmoriser();
+        try {
+            medmoriser.setqAndAs(modelQAndAs);
+        } catch (DuplicateQAndAException dqe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_QANDA, dqe);
         }
         return medmoriser;
     }
 
+    /**
+     * Converts adapted qAndAs into the model's, batch by batch.
+     * Each batch is converted and validated in parallel on the common fork/join pool. The results are then
+     * collected in order, which is where repeated ids are resolved and invalid qAndAs are recorded, so that all of
+     * them can be reported at once, or quarantined.
+     */
+    private static class Conversion {
+
+        private final List<QAndA> modelQAndAs = new ArrayList<>();
+        private final Set<Long> seenIds = new HashSet<>();
+        private final Set<Question> seenQuestions = new HashSet<>();
+        private final List<String> problems = new ArrayList<>();
+        private final Optional<List<JsonAdaptedQuarantinedQAndA>> quarantined;
+        private int convertedCount = 0;
+
+        Conversion() {
+            quarantined = Optional.empty();
+        }
+
+        /**
+         * Creates a {@code Conversion} that adds bad qAndAs to {@code quarantined} instead of reporting them.
+         */
+        Conversion(List<JsonAdaptedQuarantinedQAndA> quarantined) {
+            this.quarantined = Optional.of(quarantined);
+        }
+
+        /**
+         * Converts {@code batch}, which follows the qAndAs converted so far.
+         *
+         * @param lines the line in the file on which each qAndA starts, or null if unknown.
+         */
+        boolean isQuarantining() {
+            return quarantined.isPresent();
+        }
+
+        void convert(List<JsonAdaptedQAndA> batch, int[] lines) {
+            QAndA[] converted = new QAndA[batch.size()];
+            String[] messages = new String[batch.size()];
+            indexesOf(batch).forEach(i -> {
+                try {
+                    converted[i] = batch.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    messages[i] = ive.getMessage();
+                }
+            });
+            collect(converted, messages, lines, null);
+        }
+
+        /**
+         * Similar to {@link #convert(List, int[])}, but adapts each of the JSON {@code records} with {@code codec}
+         * first, rejecting those of the wrong shape like invalid ones.
+         */
+        void convertRecords(List<JsonNode> records, int[] lines, ObjectCodec codec) {
+            QAndA[] converted = new QAndA[records.size()];
+            String[] messages = new String[records.size()];
+            indexesOf(records).forEach(i -> {
+                try {
+                    if (!records.get(i).isObject()) {
+                        messages[i] = String.format(MESSAGE_MALFORMED_QANDA, "expected a JSON object");
+                        return;
+                    }
+                    converted[i] = codec.treeToValue(records.get(i), JsonAdaptedQAndA.class).toModelType();
+                } catch (JsonProcessingException jpe) {
+                    messages[i] = String.format(MESSAGE_MALFORMED_QANDA, jpe.getOriginalMessage());
+                } catch (IllegalValueException ive) {
+                    messages[i] = ive.getMessage();
+                }
+            });
+            collect(converted, messages, lines, records);
+        }
+
+        private static IntStream indexesOf(List<?> batch) {
+            IntStream indexes = IntStream.range(0, batch.size());
+            return batch.size() >= BATCH_SIZE ? indexes.parallel() : indexes;
+        }
+
+        /**
+         * Keeps the {@code converted} qAndAs, in order, and rejects those with {@code messages}.
+         *
+         * @param records the JSON records the qAndAs were adapted from, which must be given when quarantining.
+         */
+        private void collect(QAndA[] converted, String[] messages, int[] lines, List<JsonNode> records) {
+            for (int i = 0; i < converted.length; i++) {
+                int number = ++convertedCount;
+                Integer line = lines == null ? null : lines[i];
+                JsonNode record = records == null ? null : records.get(i);
+                if (messages[i] != null) {
+                    reject(number, line, messages[i], record);
+                } else if (quarantined.isPresent() && !seenQuestions.add(converted[i].getQuestion())) {
+                    // without quarantine, duplicates are left for the Medmoriser to reject
+                    reject(number, line, MESSAGE_DUPLICATE_QANDA, record);
+                } else {
+                    modelQAndAs.add(withUniqueId(converted[i]));
+                }
+            }
+        }
+
+        private void reject(int number, Integer line, String message, JsonNode record) {
+            if (quarantined.isPresent()) {
+                quarantined.get().add(new JsonAdaptedQuarantinedQAndA(number, line, message, record));
+            } else {
+                problems.add(line == null
+                        ? String.format(MESSAGE_INVALID_QANDA, number, message)
+                        : String.format(MESSAGE_INVALID_QANDA_AT_LINE, number, line, message));
+            }
+        }
+
+        /**
+         * Returns a {@code Medmoriser} holding the converted qAndAs.
+         *
+         * @throws IllegalValueException if any qAndA was invalid, or there are duplicates.
+         */
+        Medmoriser toMedmoriser() throws IllegalValueException {
+            if (!problems.isEmpty()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_QANDAS, problems.size())
+                        + "\n" + String.join("\n", problems));
+            }
+            return JsonSerializableMedmoriser.toMedmoriser(modelQAndAs);
+        }
+
+        private QAndA withUniqueId(QAndA qAndA) {
+            if (seenIds.add(qAndA.getId())) {
+                return qAndA;
+            }
+            // a hand-edited file may repeat an id; give the later record a fresh one
+            QAndA renumbered = new QAndA(qAndA.getQuestion(), qAndA.getAnswer(), qAndA.getTags());
+            seenIds.add(renumbered.getId());
+            return renumbered;
+        }
+    }
+
 }
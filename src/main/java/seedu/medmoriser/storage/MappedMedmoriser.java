@@ -0,0 +1,140 @@
+package seedu.medmoriser.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.medmoriser.commons.exceptions.IllegalValueException;
+import seedu.medmoriser.commons.util.LruCache;
+import seedu.medmoriser.model.ReadOnlyDeck;
+import seedu.medmoriser.model.qanda.QAndA;
+
+/**
+ * A read-only deck over data in the format of {@link BinarySerializableMedmoriser}, typically a mapped file.
+ * Opening it only reads the record lengths to find where each qAndA starts. A qAndA is decoded when it is
+ * accessed, and the most recently accessed ones are kept so that repeated access returns the same object.
+ * The first duplicate check reads every question once to index them by hash, so that later checks decode
+ * only the qAndAs whose questions share the hash of the one checked.
+ */
+class MappedMedmoriser implements ReadOnlyDeck {
+
+    static final int DEFAULT_CACHE_CAPACITY = 4096;
+
+    private final ByteBuffer data;
+    private final int[] tagIds;
+    private final int[] offsets;
+    private final LruCache<Integer, QAndA> decoded;
+    private final ObservableList<QAndA> qAndAs = new DecodingList();
+
+    /** Each question's hash in the upper half and its qAndA's index in the lower half, sorted. Built on first use. */
+    private long[] questionHashes;
+
+    /**
+     * Opens the binary medmoriser in the remaining bytes of {@code data}, which must not change afterwards.
+     *
+     * @throws IOException if the data is not in the binary format, or is corrupted.
+     * @throws IllegalValueException if a tag name violates the data constraints.
+     */
+    MappedMedmoriser(ByteBuffer data, int cacheCapacity) throws IOException, IllegalValueException {
+        this.data = data.slice();
+        this.decoded = new LruCache<>(cacheCapacity);
+        ByteBuffer buffer = this.data.duplicate();
+        try {
+            BinarySerializableMedmoriser.checkHeader(buffer);
+            tagIds = BinarySerializableMedmoriser.readTagTable(buffer);
+
+            int qAndACount = BinarySerializableMedmoriser.readCount(buffer);
+            offsets = new int[qAndACount];
+            for (int i = 0; i < qAndACount; i++) {
+                int recordLength = BinarySerializableMedmoriser.readCount(buffer);
+                offsets[i] = buffer.position();
+                buffer.position(buffer.position() + recordLength);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException(BinarySerializableMedmoriser.MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    @Override
+    public ObservableList<QAndA> getQAndAList() {
+        return qAndAs;
+    }
+
+    @Override
+    public boolean hasQAndA(QAndA qAndA) {
+        int hash = qAndA.getQuestion().hashCode();
+        long[] hashes = getQuestionHashes();
+        int i = Arrays.binarySearch(hashes, (long) hash << Integer.SIZE);
+        for (i = i < 0 ? -i - 1 : i; i < hashes.length && (int) (hashes[i] >> Integer.SIZE) == hash; i++) {
+            if (decode((int) hashes[i]).isSameQAndA(qAndA)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long[] getQuestionHashes() {
+        if (questionHashes != null) {
+            return questionHashes;
+        }
+        long[] hashes = new long[offsets.length];
+        ByteBuffer buffer = data.duplicate();
+        for (int i = 0; i < offsets.length; i++) {
+            buffer.position(offsets[i]);
+            try {
+                hashes[i] = (long) BinarySerializableMedmoriser.readQuestion(buffer).hashCode() << Integer.SIZE | i;
+            } catch (IOException | BufferUnderflowException e) {
+                throw new IllegalStateException("QAndA " + i + " of the read-only deck is invalid", e);
+            }
+        }
+        Arrays.sort(hashes);
+        questionHashes = hashes;
+        return hashes;
+    }
+
+    /**
+     * Returns the number of decoded qAndAs being kept.
+     */
+    int getDecodedCount() {
+        return decoded.size();
+    }
+
+    private QAndA decode(int index) {
+        QAndA qAndA = decoded.get(index);
+        if (qAndA != null) {
+            return qAndA;
+        }
+        ByteBuffer buffer = data.duplicate();
+        buffer.position(offsets[index]);
+        try {
+            qAndA = BinarySerializableMedmoriser.readQAndA(buffer, tagIds);
+        } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+            // the checksum was verified on opening, so only a file written by a faulty writer gets here
+            throw new IllegalStateException("QAndA " + index + " of the read-only deck is invalid", e);
+        }
+        decoded.put(index, qAndA);
+        return qAndA;
+    }
+
+    /**
+     * An unmodifiable list of the qAndAs that decodes each one when it is accessed.
+     */
+    private class DecodingList extends ObservableListBase<QAndA> {
+        @Override
+        public QAndA get(int index) {
+            if (index < 0 || index >= offsets.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + offsets.length);
+            }
+            return decode(index);
+        }
+
+        @Override
+        public int size() {
+            return offsets.length;
+        }
+    }
+
+}
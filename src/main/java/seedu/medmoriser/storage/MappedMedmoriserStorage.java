@@ -0,0 +1,121 @@
+package seedu.medmoriser.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.medmoriser.commons.core.LogsCenter;
+import seedu.medmoriser.commons.exceptions.DataConversionException;
+import seedu.medmoriser.commons.exceptions.IllegalValueException;
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyDeck;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+
+/**
+ * A class to open a prebuilt binary medmoriser file, such as one saved by {@link BinaryMedmoriserStorage},
+ * as a read-only deck. The file is memory-mapped rather than read, and its qAndAs are only decoded when they
+ * are shown or searched, so a very large bank needs little memory. The data can never be saved.
+ */
+public class MappedMedmoriserStorage implements MedmoriserStorage {
+
+    public static final String MESSAGE_READ_ONLY = "%s is a read-only deck and cannot be saved to.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedMedmoriserStorage.class);
+
+    private final Path filePath;
+    private final int cacheCapacity;
+
+    public MappedMedmoriserStorage(Path filePath) {
+        this(filePath, MappedMedmoriser.DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code MappedMedmoriserStorage} for the file at {@code filePath}.
+     *
+     * @param cacheCapacity the number of decoded qAndAs to keep.
+     */
+    public MappedMedmoriserStorage(Path filePath, int cacheCapacity) {
+        this.filePath = filePath;
+        this.cacheCapacity = cacheCapacity;
+    }
+
+    public Path getMedmoriserFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int getQuarantinedCount() {
+        return 0;
+    }
+
+    @Override
+    public Optional<ReadOnlyMedmoriser> readMedmoriser() throws DataConversionException {
+        return readMedmoriser(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMedmoriser()}, but a missing file is opened as an empty read-only deck rather than
+     * not found, so that the app never starts with sample data that could not be saved.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the binary format, or is corrupted.
+     */
+    public Optional<ReadOnlyMedmoriser> readMedmoriser(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Read-only deck " + filePath + " not found. Will be starting with an empty read-only deck");
+            return Optional.of(createEmptyDeck());
+        }
+
+        // the mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            MappedMedmoriser deck = new MappedMedmoriser(data, cacheCapacity);
+            logger.info("Opened read-only deck " + filePath + " with " + deck.getQAndAList().size() + " qAndAs");
+            return Optional.of(deck);
+        } catch (IOException e) {
+            logger.warning("Error mapping read-only deck " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private ReadOnlyDeck createEmptyDeck() {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try {
+            BinarySerializableMedmoriser.writeModelType(new Medmoriser(), data);
+            return new MappedMedmoriser(ByteBuffer.wrap(data.toByteArray()), cacheCapacity);
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException("An empty medmoriser cannot be opened as a read-only deck", e);
+        }
+    }
+
+    @Override
+    public void saveMedmoriser(ReadOnlyMedmoriser medmoriser) throws IOException {
+        saveMedmoriser(medmoriser, filePath);
+    }
+
+    /**
+     * Always fails, because the deck is read-only.
+     *
+     * @throws IOException always.
+     */
+    public void saveMedmoriser(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+        requireNonNull(medmoriser);
+        requireNonNull(filePath);
+        throw new IOException(String.format(MESSAGE_READ_ONLY, filePath));
+    }
+
+}
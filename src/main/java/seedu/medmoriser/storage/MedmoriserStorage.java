@@ -18,6 +18,11 @@ public interface MedmoriserStorage {
      */
     Path getMedmoriserFilePath();
 
+    /**
+     * Returns the number of qAndAs that the last read set aside as invalid or duplicated, instead of failing.
+     */
+    int getQuarantinedCount();
+
     /**
      * Returns Medmoriser data as a {@link ReadOnlyMedmoriser}.
      *   Returns {@code Optional.empty()} if storage file is not found.
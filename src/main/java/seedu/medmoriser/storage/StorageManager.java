@@ -54,6 +54,11 @@ public class StorageManager implements Storage {
         return medmoriserStorage.getMedmoriserFilePath();
     }
 
+    @Override
+    public int getQuarantinedCount() {
+        return medmoriserStorage.getQuarantinedCount();
+    }
+
     @Override
     public Optional<ReadOnlyMedmoriser> readMedmoriser() throws DataConversionException, IOException {
         return readMedmoriser(medmoriserStorage.getMedmoriserFilePath());
@@ -2,6 +2,7 @@ package seedu.medmoriser.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -105,11 +106,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        questionSetListPanel = new QuestionSetListPanel(logic.getFilteredQAndAList());
+        questionSetListPanel = new QuestionSetListPanel(logic.getFilteredQAndAList(), logic);
         questionSetListPanelPlaceholder.getChildren().add(questionSetListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getMedmoriserFilePath(),
+                logic.getQuarantinedCount());
+        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.medmoriser.commons.core.LogsCenter;
+import seedu.medmoriser.logic.Logic;
 import seedu.medmoriser.model.qanda.QAndA;
 
 /**
@@ -20,11 +21,15 @@ public class QuestionSetListPanel extends UiPart<Region> {
     @FXML
     private ListView<QAndA> questionSetListView;
 
+    private final Logic logic;
+
     /**
-     * Creates a {@code QuestionSetListPanel} with the given {@code ObservableList}.
+     * Creates a {@code QuestionSetListPanel} with the given {@code ObservableList}, showing the ongoing quiz
+     * of {@code logic}.
      */
-    public QuestionSetListPanel(ObservableList<QAndA> qAndAList) {
+    public QuestionSetListPanel(ObservableList<QAndA> qAndAList, Logic logic) {
         super(FXML);
+        this.logic = logic;
         questionSetListView.setItems(qAndAList);
         questionSetListView.setCellFactory(listView -> new QAndAListViewCell());
     }
@@ -64,8 +69,8 @@ public class QuestionSetListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                if (qAndA.getIsQuiz()) {
-                    if (qAndA.getIsQuizAnswer()) {
+                if (logic.isQuizQAndA(qAndA)) {
+                    if (logic.isQuizAnswerShown()) {
                         setGraphic(new QuizCard(qAndA, getIndex() + 1, true).getRoot());
                     } else {
                         setGraphic(new QuizCard(qAndA, getIndex() + 1, false).getRoot());
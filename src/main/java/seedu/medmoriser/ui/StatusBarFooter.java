@@ -12,17 +12,30 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_QUARANTINED = "%d bad qAndA(s) set aside when loading";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label quarantineStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
+        this(saveLocation, 0);
+    }
+
+    /**
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which also shows how many qAndAs
+     * were quarantined when loading the data, if any.
+     */
+    public StatusBarFooter(Path saveLocation, int quarantinedCount) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        quarantineStatus.setText(quarantinedCount == 0 ? "" : String.format(MESSAGE_QUARANTINED, quarantinedCount));
     }
 
 }
@@ -1,13 +1,22 @@
 package seedu.medmoriser.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,42 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_newFile_writesContentWithoutRollback() throws Exception {
+        Path file = testFolder.resolve("dir").resolve("data.json");
+        Path rollbackFile = testFolder.resolve("dir").resolve("data.json.bak");
+        FileUtil.writeAtomically(file, rollbackFile, tempFile -> FileUtil.writeToFile(tempFile, "first"));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(rollbackFile));
+        assertFalse(Files.exists(testFolder.resolve("dir").resolve("data.json.tmp")));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_keepsPreviousContentAsRollback() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Path rollbackFile = testFolder.resolve("data.json.bak");
+        FileUtil.writeAtomically(file, rollbackFile, tempFile -> FileUtil.writeToFile(tempFile, "first"));
+        FileUtil.writeAtomically(file, rollbackFile, tempFile -> FileUtil.writeToFile(tempFile, "second"));
+        FileUtil.writeAtomically(file, rollbackFile, tempFile -> FileUtil.writeToFile(tempFile, "third"));
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(rollbackFile));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_leavesFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Path rollbackFile = testFolder.resolve("data.json.bak");
+        FileUtil.writeAtomically(file, rollbackFile, tempFile -> FileUtil.writeToFile(tempFile, "first"));
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, rollbackFile, tempFile -> {
+            FileUtil.writeToFile(tempFile, "partial");
+            throw new IOException("disk full");
+        }));
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(rollbackFile));
+        assertFalse(Files.exists(testFolder.resolve("data.json.tmp")));
+    }
+
 }
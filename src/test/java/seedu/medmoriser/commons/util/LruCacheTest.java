@@ -0,0 +1,53 @@
+package seedu.medmoriser.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.medmoriser.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "one");
+        cache.put("b", "two");
+        cache.get("a");
+        cache.put("c", "three");
+
+        assertEquals(2, cache.size());
+        assertEquals("one", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("three", cache.get("c"));
+    }
+
+    @Test
+    public void removeIf_keepsOrderOfRemainingEntries() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.removeIf((key, value) -> value == 2);
+        cache.put("c", 3);
+        cache.put("d", 4);
+
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+    }
+
+    @Test
+    public void clear() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "one");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+    }
+
+}
@@ -9,7 +9,11 @@ import static seedu.medmoriser.testutil.Assert.assertThrows;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTIONA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,16 +21,20 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.medmoriser.logic.commands.AddCommand;
 import seedu.medmoriser.logic.commands.CommandResult;
+import seedu.medmoriser.logic.commands.FindCommand;
 import seedu.medmoriser.logic.commands.ListCommand;
 import seedu.medmoriser.logic.commands.exceptions.CommandException;
 import seedu.medmoriser.logic.parser.exceptions.ParseException;
+import seedu.medmoriser.model.Medmoriser;
 import seedu.medmoriser.model.Model;
 import seedu.medmoriser.model.ModelManager;
 import seedu.medmoriser.model.ReadOnlyMedmoriser;
 import seedu.medmoriser.model.UserPrefs;
 import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.storage.BackgroundSaver;
 import seedu.medmoriser.storage.JsonMedmoriserStorage;
 import seedu.medmoriser.storage.JsonUserPrefsStorage;
+import seedu.medmoriser.storage.MappedMedmoriserStorage;
 import seedu.medmoriser.storage.StorageManager;
 import seedu.medmoriser.testutil.QAndABuilder;
 
@@ -85,6 +93,119 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_nonMutatingCommands_skipsSave() throws Exception {
+        SaveCountingStorageStub medmoriserStorage =
+                new SaveCountingStorageStub(temporaryFolder.resolve("counting.json"));
+        logic = new LogicManager(model, new StorageManager(medmoriserStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        // nothing is in storage yet, so the first command saves
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, medmoriserStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " q/question");
+        assertEquals(1, medmoriserStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + QUESTION_DESC_A + ANSWER_DESC_A);
+        assertEquals(2, medmoriserStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, medmoriserStorage.saveCount);
+    }
+
+    @Test
+    public void execute_missingReadOnlyDeck_neverSaves() throws Exception {
+        MappedMedmoriserStorage medmoriserStorage = new MappedMedmoriserStorage(temporaryFolder.resolve("deck.bin"));
+        model = new ModelManager(medmoriserStorage.readMedmoriser().get(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(medmoriserStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("deckUserPrefs.json"))));
+
+        // saving would fail, as the deck is read-only
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_LIST_ALL_SUCCESS, model);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_LIST_ALL_SUCCESS, model);
+        assertEquals(0, model.getFilteredQAndAList().size());
+    }
+
+    @Test
+    public void execute_existingStorageFile_skipsSaveUntilMutation() throws Exception {
+        Path filePath = temporaryFolder.resolve("existing.json");
+        SaveCountingStorageStub medmoriserStorage = new SaveCountingStorageStub(filePath);
+        medmoriserStorage.saveMedmoriser(model.getMedmoriser());
+        logic = new LogicManager(model, new StorageManager(medmoriserStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("existingUserPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, medmoriserStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + QUESTION_DESC_A + ANSWER_DESC_A);
+        assertEquals(2, medmoriserStorage.saveCount);
+    }
+
+    @Test
+    public void execute_quarantiningLoad_savesOnceWithoutQuarantinedQAndAs() throws Exception {
+        Path filePath = temporaryFolder.resolve("bad.json");
+        Files.copy(Paths.get("src", "test", "data", "JsonMedmoriserStorageTest",
+                "invalidAndDuplicateQAndAsMedmoriser.json"), filePath);
+        JsonMedmoriserStorage medmoriserStorage = new JsonMedmoriserStorage(filePath, false, true);
+        model = new ModelManager(medmoriserStorage.readMedmoriser().get(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(medmoriserStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("badUserPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        medmoriserStorage.readMedmoriser();
+        assertEquals(0, medmoriserStorage.getQuarantinedCount());
+    }
+
+    @Test
+    public void execute_saveFailed_retriesAfterNextCommand() throws Exception {
+        JsonMedmoriserStorage failingStorage =
+                new JsonMedmoriserIoExceptionThrowingStub(temporaryFolder.resolve("failing.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("failingPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(failingStorage, userPrefsStorage));
+        assertThrows(CommandException.class, () -> logic.execute(AddCommand.COMMAND_WORD + QUESTION_DESC_A
+                + ANSWER_DESC_A));
+
+        // a later non-mutating command still tries to persist the unsaved change
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportsFileOpsError() throws Exception {
+        JsonMedmoriserStorage failingStorage =
+                new JsonMedmoriserIoExceptionThrowingStub(temporaryFolder.resolve("backgroundFailing.json"));
+        StorageManager storage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundFailingPrefs.json")));
+        BackgroundSaver backgroundSaver = new BackgroundSaver(storage);
+        logic = new LogicManager(model, storage, backgroundSaver);
+        List<String> reportedErrors = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedErrors::add);
+
+        // the command itself succeeds, as the save happens later
+        logic.execute(AddCommand.COMMAND_WORD + QUESTION_DESC_A + ANSWER_DESC_A);
+        backgroundSaver.flush();
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), reportedErrors);
+
+        // the failed save is retried after the next command
+        logic.execute(ListCommand.COMMAND_WORD);
+        backgroundSaver.shutdown();
+        assertEquals(2, reportedErrors.size());
+    }
+
+    @Test
+    public void execute_backgroundSave_writesAfterFlush() throws Exception {
+        Path filePath = temporaryFolder.resolve("background.json");
+        StorageManager storage = new StorageManager(new JsonMedmoriserStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundPrefs.json")));
+        BackgroundSaver backgroundSaver = new BackgroundSaver(storage);
+        logic = new LogicManager(model, storage, backgroundSaver);
+
+        logic.execute(AddCommand.COMMAND_WORD + QUESTION_DESC_A + ANSWER_DESC_A);
+        backgroundSaver.shutdown();
+        assertEquals(model.getMedmoriser(), new Medmoriser(storage.readMedmoriser().get()));
+    }
+
     @Test
     public void getFilteredQAndAList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredQAndAList().remove(0));
@@ -156,4 +277,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts how often the medmoriser is saved.
+     */
+    private static class SaveCountingStorageStub extends JsonMedmoriserStorage {
+        private int saveCount = 0;
+
+        private SaveCountingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveMedmoriser(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+            saveCount++;
+            super.saveMedmoriser(medmoriser, filePath);
+        }
+    }
 }
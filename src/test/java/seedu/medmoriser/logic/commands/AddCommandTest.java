@@ -139,6 +139,51 @@ public class AddCommandTest {
                     + " not be called.");
         }
 
+        @Override
+        public long getMedmoriserGeneration() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isMedmoriserReadOnly() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getQueryCacheHits() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getQueryCacheMisses() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setQuizQAndA(QAndA qAndA) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearQuizQAndA() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isQuizQAndA(QAndA qAndA) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setQuizAnswerShown() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isQuizAnswerShown() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasQAndA(QAndA qAndA) {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +221,11 @@ public class AddCommandTest {
             this.qAndA = qAndA;
         }
 
+        @Override
+        public boolean isMedmoriserReadOnly() {
+            return false;
+        }
+
         @Override
         public boolean hasQAndA(QAndA qAndA) {
             requireNonNull(qAndA);
@@ -189,6 +239,11 @@ public class AddCommandTest {
     private class ModelStubAcceptingQAndAAdded extends ModelStub {
         final ArrayList<QAndA> qAndAsAdded = new ArrayList<>();
 
+        @Override
+        public boolean isMedmoriserReadOnly() {
+            return false;
+        }
+
         @Override
         public boolean hasQAndA(QAndA qAndA) {
             requireNonNull(qAndA);
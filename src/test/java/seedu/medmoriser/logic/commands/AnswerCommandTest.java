@@ -40,17 +40,20 @@ public class AnswerCommandTest {
         setCurrCommandResult(USER_ANSWER_2);
         AnswerCommand answerCommand = new AnswerCommand(USER_ANSWER_1);
 
-        AnswerCommand.setBeenAnswered(true, model);
-        model.getFilteredQAndAList().get(0).setQuizAnswer();
+        AnswerCommand.setBeenAnswered(true);
+        model.setQuizAnswerShown();
 
         String repeatedAnswerMessage = USER_ANSWER_2 + "\n" + MESSAGE_ALREADY_ANSWERED;
         assertCommandFailure(answerCommand, model, repeatedAnswerMessage);
+
+        // end the quiz
+        QuizCommand.setIsQuiz(false, model);
     }
 
     @Test
     public void execute_answerOngoingQuizNotBeenAnswered_success() {
         QuizCommand.setIsQuiz(true, model);
-        AnswerCommand.setBeenAnswered(false, model);
+        AnswerCommand.setBeenAnswered(false);
         QAndA qAndA = TypicalQAndA.QUESTION1;
         model.updateFilteredQAndAList(x -> x.equals(qAndA));
 
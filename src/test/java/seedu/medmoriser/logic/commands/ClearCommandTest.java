@@ -1,13 +1,18 @@
 package seedu.medmoriser.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.medmoriser.testutil.Assert.assertThrows;
 import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.medmoriser.commons.core.Messages;
+import seedu.medmoriser.logic.commands.exceptions.CommandException;
 import seedu.medmoriser.model.Medmoriser;
 import seedu.medmoriser.model.Model;
 import seedu.medmoriser.model.ModelManager;
+import seedu.medmoriser.model.ReadOnlyDeck;
 import seedu.medmoriser.model.UserPrefs;
 
 public class ClearCommandTest {
@@ -29,4 +34,14 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyDeck_throwsCommandException() {
+        ReadOnlyDeck deck = () -> getTypicalMedmoriser().getQAndAList();
+        Model model = new ModelManager(deck, new UserPrefs());
+
+        assertThrows(CommandException.class, Messages.MESSAGE_READ_ONLY_MEDMORISER, () ->
+                new ClearCommand().execute(model));
+        assertEquals(deck.getQAndAList(), model.getFilteredQAndAList());
+    }
+
 }
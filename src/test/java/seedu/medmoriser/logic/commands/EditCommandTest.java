@@ -1,5 +1,6 @@
 package seedu.medmoriser.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.DESC_A;
@@ -67,6 +68,14 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_allFieldsSpecifiedUnfilteredList_keepsId() throws Exception {
+        QAndA qAndAToEdit = model.getFilteredQAndAList().get(INDEX_FIRST_QANDA.getZeroBased());
+        EditQAndADescriptor descriptor = new EditQAndADescriptorBuilder(new QAndABuilder().build()).build();
+        new EditCommand(INDEX_FIRST_QANDA, descriptor).execute(model);
+        assertEquals(qAndAToEdit.getId(), model.getFilteredQAndAList().get(INDEX_FIRST_QANDA.getZeroBased()).getId());
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditCommand editCommand = new EditCommand(INDEX_FIRST_QANDA, new EditCommand.EditQAndADescriptor());
@@ -92,7 +101,9 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_QANDA_SUCCESS, editedQAndA);
 
+        // the search stays active, so the edited qAndA is only shown if it still matches
         Model expectedModel = new ModelManager(new Medmoriser(model.getMedmoriser()), new UserPrefs());
+        showQAndAAtIndex(expectedModel, INDEX_FIRST_QANDA);
         expectedModel.setQAndA(model.getFilteredQAndAList().get(0), editedQAndA);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
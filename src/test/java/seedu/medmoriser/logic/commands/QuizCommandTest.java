@@ -2,27 +2,37 @@ package seedu.medmoriser.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.medmoriser.logic.commands.QuizCommand.MESSAGE_NO_QUESTION_WITH_KEYWORD;
 import static seedu.medmoriser.logic.commands.QuizCommand.MESSAGE_SUCCESS;
 import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javafx.collections.ObservableList;
 import seedu.medmoriser.logic.commands.exceptions.CommandException;
+import seedu.medmoriser.model.Medmoriser;
 import seedu.medmoriser.model.Model;
 import seedu.medmoriser.model.ModelManager;
 import seedu.medmoriser.model.UserPrefs;
 import seedu.medmoriser.model.qanda.QAndA;
 import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+import seedu.medmoriser.storage.BinaryMedmoriserStorage;
+import seedu.medmoriser.storage.MappedMedmoriserStorage;
+import seedu.medmoriser.testutil.QAndABuilder;
 
 public class QuizCommandTest {
+    @TempDir
+    public Path testFolder;
+
     private Model model = new ModelManager(getTypicalMedmoriser(), new UserPrefs());
     private Model expectedModel = new ModelManager(getTypicalMedmoriser(), new UserPrefs());
 
@@ -101,6 +111,39 @@ public class QuizCommandTest {
         }
     }
 
+    @Test
+    public void execute_quizQAndAEvictedFromReadOnlyDeck_keepsQuizState() throws Exception {
+        Medmoriser original = new Medmoriser();
+        original.addQAndA(new QAndABuilder().withQuestion("Which card is unique?").withAnswer("This one").build());
+        for (int i = 0; i < 50; i++) {
+            original.addQAndA(new QAndABuilder().withQuestion("Question " + i).withAnswer("Answer " + i).build());
+        }
+        Path filePath = testFolder.resolve("deck.bin");
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(original);
+        Model deckModel = new ModelManager(new MappedMedmoriserStorage(filePath, 2).readMedmoriser().get(),
+                new UserPrefs());
+
+        try {
+            new QuizCommand(preparePredicate("unique")).execute(deckModel);
+            QAndA quizQAndA = deckModel.getFilteredQAndAList().get(0);
+
+            // decoding every other qAndA evicts the one being quizzed on, so it is decoded again as a new object
+            deckModel.getMedmoriser().getQAndAList().forEach(qAndA -> {});
+            QAndA decodedAgain = deckModel.getMedmoriser().getQAndAList().get(0);
+            assertNotSame(quizQAndA, decodedAgain);
+            assertTrue(deckModel.isQuizQAndA(decodedAgain));
+            assertFalse(deckModel.isQuizAnswerShown());
+
+            new AnswerCommand("This one").execute(deckModel);
+            deckModel.getMedmoriser().getQAndAList().forEach(qAndA -> {});
+            assertTrue(deckModel.isQuizQAndA(deckModel.getMedmoriser().getQAndAList().get(0)));
+            assertTrue(deckModel.isQuizAnswerShown());
+        } finally {
+            new EndQuizCommand().execute(deckModel);
+        }
+        assertFalse(deckModel.isQuizQAndA(deckModel.getFilteredQAndAList().get(0)));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -5,6 +5,7 @@ import static seedu.medmoriser.logic.parser.CommandParserTestUtil.assertParseFai
 import static seedu.medmoriser.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +14,11 @@ import seedu.medmoriser.model.qanda.AnswerContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.QAndAContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+import seedu.medmoriser.model.search.BooleanQueryPredicate;
+import seedu.medmoriser.model.search.FuzzyKeywordsPredicate;
+import seedu.medmoriser.model.search.PhraseQueryPredicate;
+import seedu.medmoriser.model.search.RankedQueryPredicate;
+import seedu.medmoriser.model.search.SearchIndex.Field;
 
 public class FindCommandParserTest {
 
@@ -99,4 +105,116 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "t/immune system t/cardiovascular t/skeleton",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_ONE_PREFIX));
     }
+
+    @Test
+    public void parse_booleanQuery_returnsFindCommand() {
+        TagContainsKeywordsPredicate cardiology = new TagContainsKeywordsPredicate(Arrays.asList("cardiology"));
+        QuestionContainsKeywordsPredicate murmur = new QuestionContainsKeywordsPredicate(Arrays.asList("murmur"));
+        AnswerContainsKeywordsPredicate aortic = new AnswerContainsKeywordsPredicate(Arrays.asList("aortic"));
+
+        // NOT after a term means AND NOT
+        assertParseSuccess(parser, "t/cardiology AND q/murmur NOT a/aortic", new FindCommand(BooleanQueryPredicate.and(
+                Arrays.asList(cardiology, murmur, BooleanQueryPredicate.not(aortic)))));
+
+        // adjacent terms are joined by AND once the query uses an operator
+        assertParseSuccess(parser, "t/cardiology q/murmur AND a/aortic",
+                new FindCommand(BooleanQueryPredicate.and(Arrays.asList(cardiology, murmur, aortic))));
+
+        // AND binds tighter than OR, parentheses group
+        assertParseSuccess(parser, "t/cardiology AND q/murmur OR a/aortic", new FindCommand(BooleanQueryPredicate.or(
+                Arrays.asList(BooleanQueryPredicate.and(Arrays.asList(cardiology, murmur)), aortic))));
+        assertParseSuccess(parser, "t/cardiology AND (q/murmur OR a/aortic)", new FindCommand(BooleanQueryPredicate.and(
+                Arrays.asList(cardiology, BooleanQueryPredicate.or(Arrays.asList(murmur, aortic))))));
+
+        // keywords without a prefix, and t/ without keywords
+        assertParseSuccess(parser, "NOT heart, lung OR t/", new FindCommand(BooleanQueryPredicate.or(Arrays.asList(
+                BooleanQueryPredicate.not(new QAndAContainsKeywordsPredicate(Arrays.asList("heart", "lung"))),
+                new TagContainsKeywordsPredicate(Collections.emptyList())))));
+    }
+
+    @Test
+    public void parse_operatorWordsInPlainFind_returnsFindCommand() {
+        // without another prefixed term, or a prefixed term right after them, the words are keywords
+        assertParseSuccess(parser, "q/OR",
+                new FindCommand(new QuestionContainsKeywordsPredicate(Collections.singletonList("OR"))));
+        assertParseSuccess(parser, "q/Which is NOT a sign", new FindCommand(
+                new QuestionContainsKeywordsPredicate(Collections.singletonList("Which is NOT a sign"))));
+        assertParseSuccess(parser, "a/murmur AND thrill, (pH)", new FindCommand(
+                new AnswerContainsKeywordsPredicate(Arrays.asList("murmur AND thrill", "(pH)"))));
+        assertParseSuccess(parser, "heart OR lung",
+                new FindCommand(new QAndAContainsKeywordsPredicate(Collections.singletonList("heart OR lung"))));
+
+        // nor in a phrase search
+        assertParseSuccess(parser, "q/\"NOT a sign\", OR", new FindCommand(BooleanQueryPredicate.or(Arrays.asList(
+                new QuestionContainsKeywordsPredicate(Collections.singletonList("OR")),
+                PhraseQueryPredicate.phrase("NOT a sign", Field.QUESTION)))));
+
+        // quoted operators in a query with operators are searched for as words
+        assertParseSuccess(parser, "t/cardiology AND q/\"OR\"", new FindCommand(BooleanQueryPredicate.and(Arrays.asList(
+                new TagContainsKeywordsPredicate(Collections.singletonList("cardiology")),
+                PhraseQueryPredicate.phrase("OR", Field.QUESTION)))));
+    }
+
+    @Test
+    public void parse_invalidBooleanQuery_throwsParseException() {
+        assertParseFailure(parser, "(q/murmur OR a/aortic",
+                String.format(FindCommand.MESSAGE_INVALID_QUERY, BooleanQueryParser.MESSAGE_UNMATCHED_PARENTHESIS));
+        assertParseFailure(parser, "q/murmur) OR a/aortic",
+                String.format(FindCommand.MESSAGE_INVALID_QUERY, BooleanQueryParser.MESSAGE_UNMATCHED_PARENTHESIS));
+        assertParseFailure(parser, "q/murmur AND t/cardiology OR",
+                String.format(FindCommand.MESSAGE_INVALID_QUERY, BooleanQueryParser.MESSAGE_MISSING_TERM));
+        assertParseFailure(parser, "q/ AND a/aortic", String.format(FindCommand.MESSAGE_INVALID_QUERY,
+                String.format(BooleanQueryParser.MESSAGE_MISSING_KEYWORD, "q/")));
+    }
+
+    @Test
+    public void parse_phraseAndNearQuery_returnsFindCommand() {
+        PhraseQueryPredicate leftVentricle = PhraseQueryPredicate.phrase("left ventricle", Field.ANSWER);
+        assertParseSuccess(parser, "a/\"left ventricle\"", new FindCommand(leftVentricle));
+
+        // phrases may contain commas, and are combined with the other keywords by OR
+        assertParseSuccess(parser, "a/ murmur, \"left, ventricle\", mitral NEAR/3 \"aortic valve\"",
+                new FindCommand(BooleanQueryPredicate.or(Arrays.asList(
+                        new AnswerContainsKeywordsPredicate(Collections.singletonList("murmur")), leftVentricle,
+                        PhraseQueryPredicate.near("mitral", "aortic valve", 3, Field.ANSWER)))));
+
+        assertParseSuccess(parser, "mitral NEAR/0 stenosis", new FindCommand(
+                PhraseQueryPredicate.near("mitral", "stenosis", 0, Field.QUESTION, Field.ANSWER)));
+        assertParseSuccess(parser, "t/cardiology AND q/\"mitral stenosis\"", new FindCommand(BooleanQueryPredicate.and(
+                Arrays.asList(new TagContainsKeywordsPredicate(Collections.singletonList("cardiology")),
+                        PhraseQueryPredicate.phrase("mitral stenosis", Field.QUESTION)))));
+    }
+
+    @Test
+    public void parse_invalidPhraseOrNearQuery_throwsParseException() {
+        assertParseFailure(parser, "a/\"left ventricle",
+                String.format(FindCommand.MESSAGE_INVALID_QUERY, BooleanQueryParser.MESSAGE_UNMATCHED_QUOTE));
+        assertParseFailure(parser, "q/\"?\"",
+                String.format(FindCommand.MESSAGE_INVALID_QUERY, BooleanQueryParser.MESSAGE_MISSING_PHRASE_WORD));
+        for (String query : Arrays.asList("mitral NEAR/ stenosis", "mitral NEAR/x stenosis", "NEAR/3 stenosis",
+                "mitral NEAR/3", "a NEAR/1 b NEAR/1 c")) {
+            assertParseFailure(parser, query,
+                    String.format(FindCommand.MESSAGE_INVALID_QUERY, BooleanQueryParser.MESSAGE_INVALID_NEAR));
+        }
+    }
+
+    @Test
+    public void parse_rankedQuery_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new RankedQueryPredicate(Arrays.asList("nerve", "spinal cord"), RankedQueryPredicate.DEFAULT_LIMIT));
+        assertParseSuccess(parser, "r/nerve, spinal cord", expectedFindCommand);
+        assertParseSuccess(parser, " r/ nerve ,  spinal cord ", expectedFindCommand);
+
+        assertParseFailure(parser, "r/ , ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyQuery_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new FuzzyKeywordsPredicate(Arrays.asList("pheochromocytoma", "adrenal gland")));
+        assertParseSuccess(parser, "f/pheochromocytoma, adrenal gland", expectedFindCommand);
+        assertParseSuccess(parser, " f/ pheochromocytoma ,adrenal gland ", expectedFindCommand);
+
+        assertParseFailure(parser, "f/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
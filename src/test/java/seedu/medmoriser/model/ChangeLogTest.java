@@ -0,0 +1,75 @@
+package seedu.medmoriser.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION3;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeLogTest {
+
+    private final ChangeLog log = new ChangeLog(2);
+
+    @Test
+    public void getChangesSince_earlierPosition_returnsLaterChangesOldestFirst() {
+        ChangeLog.Position start = log.getPosition();
+        log.record(null, QUESTION1);
+        ChangeLog.Position afterAdd = log.getPosition();
+        log.record(QUESTION1, QUESTION2);
+
+        List<ChangeLog.Change> changes = log.getPosition().getChangesSince(start).get();
+        assertEquals(2, changes.size());
+        assertEquals(Optional.empty(), changes.get(0).getRemoved());
+        assertEquals(Optional.of(QUESTION1), changes.get(0).getAdded());
+        assertEquals(Optional.of(QUESTION2), changes.get(1).getAdded());
+
+        assertEquals(1, afterAdd.getChangesSince(start).get().size());
+        assertEquals(0, afterAdd.getChangesSince(afterAdd).get().size());
+        assertFalse(start.getChangesSince(afterAdd).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_changesNoLongerKept_empty() {
+        ChangeLog.Position start = log.getPosition();
+        log.record(null, QUESTION1);
+        ChangeLog.Position afterFirst = log.getPosition();
+        log.record(null, QUESTION2);
+        log.record(null, QUESTION3);
+
+        assertFalse(log.getPosition().getChangesSince(start).isPresent());
+        assertEquals(2, log.getPosition().getChangesSince(afterFirst).get().size());
+    }
+
+    @Test
+    public void getChangesSince_positionBeforeReset_empty() {
+        ChangeLog.Position start = log.getPosition();
+        log.record(null, QUESTION1);
+        log.reset(null);
+
+        assertFalse(log.getPosition().getChangesSince(start).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_basePositionOfCopiedMedmoriser_returnsChangesSinceTheCopy() {
+        ChangeLog original = new ChangeLog(2);
+        original.record(null, QUESTION1);
+        ChangeLog.Position copied = original.getPosition();
+        ChangeLog.Position beforeCopy = new ChangeLog(2).getPosition();
+
+        log.reset(copied);
+        log.record(null, QUESTION2);
+        assertEquals(1, log.getPosition().getChangesSince(copied).get().size());
+        assertFalse(log.getPosition().getChangesSince(beforeCopy).isPresent());
+
+        // once the changes since the copy are no longer all kept, the copy cannot be followed on from
+        log.record(null, QUESTION3);
+        log.record(QUESTION3, null);
+        assertFalse(log.getPosition().getChangesSince(copied).isPresent());
+    }
+
+}
@@ -2,10 +2,12 @@ package seedu.medmoriser.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.VALID_TAG_TAG2;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
 import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
 
 import java.util.Arrays;
@@ -19,6 +21,8 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.medmoriser.model.qanda.QAndA;
 import seedu.medmoriser.model.qanda.exceptions.DuplicateQAndAException;
+import seedu.medmoriser.model.search.SearchIndex;
+import seedu.medmoriser.model.search.SearchIndex.Field;
 import seedu.medmoriser.testutil.QAndABuilder;
 
 public class MedmoriserTest {
@@ -53,6 +57,53 @@ public class MedmoriserTest {
         assertThrows(DuplicateQAndAException.class, () -> medmoriser.resetData(newData));
     }
 
+    @Test
+    public void resetData_withMedmoriser_keepsIdentityChecks() {
+        medmoriser.addQAndA(QUESTION1);
+        Medmoriser newData = getTypicalMedmoriser();
+        newData.removeQAndA(QUESTION1);
+        medmoriser.resetData(newData);
+        assertEquals(newData, medmoriser);
+        assertFalse(medmoriser.hasQAndA(QUESTION1));
+        assertTrue(medmoriser.hasQAndA(newData.getQAndAList().get(0)));
+    }
+
+    @Test
+    public void getSearchIndex_afterMutations_reflectsCurrentQAndAs() {
+        medmoriser.addQAndA(QUESTION1);
+        SearchIndex index = medmoriser.getSearchIndex();
+        QAndA editedQuestion1 = new QAndABuilder(QUESTION1).withAnswer("Edited answer").build();
+        medmoriser.setQAndA(new QAndABuilder(QUESTION1).build(), editedQuestion1);
+        assertEquals(Collections.singleton(editedQuestion1.getId()), index.getPostings(Field.ANSWER, "edited"));
+        assertTrue(index.getPostings(Field.ANSWER, "1").isEmpty());
+
+        medmoriser.removeQAndA(editedQuestion1);
+        assertTrue(index.getPostings(Field.QUESTION, "one").isEmpty());
+    }
+
+    @Test
+    public void getGeneration_changesOnlyOnMutation() {
+        long generation = medmoriser.getGeneration();
+        medmoriser.hasQAndA(QUESTION1);
+        medmoriser.getSearchIndex();
+        assertEquals(generation, medmoriser.getGeneration());
+
+        medmoriser.addQAndA(QUESTION1);
+        assertNotEquals(generation, medmoriser.getGeneration());
+
+        generation = medmoriser.getGeneration();
+        medmoriser.setQAndA(QUESTION1, QUESTION2);
+        assertNotEquals(generation, medmoriser.getGeneration());
+
+        generation = medmoriser.getGeneration();
+        medmoriser.removeQAndA(QUESTION2);
+        assertNotEquals(generation, medmoriser.getGeneration());
+
+        generation = medmoriser.getGeneration();
+        medmoriser.resetData(getTypicalMedmoriser());
+        assertNotEquals(generation, medmoriser.getGeneration());
+    }
+
     @Test
     public void hasQAndA_nullQAndA_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> medmoriser.hasQAndA(null));
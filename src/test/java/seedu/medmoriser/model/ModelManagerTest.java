@@ -2,21 +2,36 @@ package seedu.medmoriser.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.model.Model.PREDICATE_SHOW_ALL_QANDA;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION3;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import seedu.medmoriser.commons.core.GuiSettings;
+import seedu.medmoriser.model.qanda.AnswerContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.QAndAContainsKeywordsPredicate;
 import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+import seedu.medmoriser.model.search.RankedQueryPredicate;
 import seedu.medmoriser.testutil.MedmoriserBuilder;
+import seedu.medmoriser.testutil.QAndABuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +103,212 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasQAndA(QUESTION1));
     }
 
+    @Test
+    public void updateFilteredQAndAList_indexedPredicate_matchesScan() {
+        modelManager.addQAndA(new QAndABuilder().withQuestion("What does the left ventricle do?")
+                .withAnswer("Pumps oxygenated blood, 10,000 times").build());
+        modelManager.addQAndA(new QAndABuilder().withQuestion("Is an X-ray safe?").withAnswer("Mostly").build());
+        modelManager.addQAndA(new QAndABuilder().withQuestion("Ventricles and atria").withAnswer("Four").build());
+
+        for (String keyword : Arrays.asList("left ventricle", "VENTRICLE", "10,000", "x-ray", "ray", "4", "?", "")) {
+            List<String> keywords = Collections.singletonList(keyword);
+            assertIndexedFilterMatchesScan(new QAndAContainsKeywordsPredicate(keywords));
+            assertIndexedFilterMatchesScan(new QuestionContainsKeywordsPredicate(keywords));
+            assertIndexedFilterMatchesScan(new AnswerContainsKeywordsPredicate(keywords));
+        }
+    }
+
+    @Test
+    public void updateFilteredQAndAList_tagPredicate_matchesScan() {
+        modelManager.addQAndA(QUESTION1);
+        modelManager.addQAndA(QUESTION2);
+        modelManager.addQAndA(new QAndABuilder().withQuestion("Untagged").withTags().build());
+        modelManager.addQAndA(new QAndABuilder().withQuestion("Cell biology").withTags("DNA", "Cells").build());
+
+        for (List<String> keywords : Arrays.asList(Arrays.asList("dna"), Arrays.asList("cells", "ImmuneSystem"),
+                Arrays.asList("t"), Collections.<String>emptyList(), Arrays.asList("unknown"))) {
+            assertIndexedFilterMatchesScan(new TagContainsKeywordsPredicate(keywords));
+        }
+    }
+
+    @Test
+    public void updateFilteredQAndAList_indexedPredicateThenAdd_testsAddedQAndA() {
+        modelManager.addQAndA(QUESTION1);
+        modelManager.updateFilteredQAndAList(new QuestionContainsKeywordsPredicate(Arrays.asList("question")));
+        ((Medmoriser) modelManager.getMedmoriser()).addQAndA(QUESTION2);
+        assertEquals(Arrays.asList(QUESTION1, QUESTION2), modelManager.getFilteredQAndAList());
+    }
+
+    @Test
+    public void addQAndA_showingAll_appliesOnlyTheAddition() {
+        modelManager.addQAndA(QUESTION1);
+        modelManager.addQAndA(QUESTION2);
+        List<String> changes = new ArrayList<>();
+        modelManager.getFilteredQAndAList().addListener((ListChangeListener<QAndA>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemoved().size());
+            }
+        });
+
+        modelManager.addQAndA(QUESTION3);
+        modelManager.setQAndA(QUESTION1, new QAndABuilder(QUESTION1).withAnswer("Edited").build());
+        modelManager.updateFilteredQAndAList(PREDICATE_SHOW_ALL_QANDA);
+        assertEquals(Arrays.asList("2-3 removed 0", "0-1 removed 1"), changes);
+    }
+
+    @Test
+    public void addQAndAAndSetQAndA_filteredBySearch_keepSearchAndTestOnlyTheChanges() {
+        modelManager.addQAndA(QUESTION1);
+        List<QAndA> tested = new ArrayList<>();
+        Predicate<QAndA> predicate = qAndA -> tested.add(qAndA) && qAndA != QUESTION2;
+        modelManager.updateFilteredQAndAList(predicate);
+
+        tested.clear();
+        modelManager.addQAndA(QUESTION2);
+        modelManager.addQAndA(QUESTION3);
+        QAndA editedQuestion1 = new QAndABuilder(QUESTION1).withAnswer("Edited").build();
+        modelManager.setQAndA(QUESTION1, editedQuestion1);
+        assertEquals(Arrays.asList(QUESTION2, QUESTION3, editedQuestion1), tested);
+        assertEquals(Arrays.asList(editedQuestion1, QUESTION3), modelManager.getFilteredQAndAList());
+    }
+
+    @Test
+    public void updateFilteredQAndAList_samePredicateAgain_keepsFilteredListUpToDate() {
+        modelManager.addQAndA(QUESTION1);
+        modelManager.addQAndA(QUESTION2);
+        List<QAndA> tested = new ArrayList<>();
+        Predicate<QAndA> predicate = qAndA -> tested.add(qAndA) && qAndA != QUESTION2;
+        modelManager.updateFilteredQAndAList(predicate);
+
+        tested.clear();
+        modelManager.updateFilteredQAndAList(predicate);
+        ((Medmoriser) modelManager.getMedmoriser()).addQAndA(QUESTION3);
+        modelManager.updateFilteredQAndAList(predicate);
+        assertEquals(Collections.singletonList(QUESTION3), tested);
+        assertEquals(Arrays.asList(QUESTION1, QUESTION3), modelManager.getFilteredQAndAList());
+    }
+
+    @Test
+    public void updateFilteredQAndAList_rankedPredicate_showsMostRelevantFirst() {
+        QAndA nerveInAnswer = new QAndABuilder().withQuestion("What supplies the diaphragm?")
+                .withAnswer("The phrenic nerve").build();
+        QAndA nerveInQuestion = new QAndABuilder().withQuestion("Which nerve supplies the diaphragm?")
+                .withAnswer("Phrenic").build();
+        modelManager.addQAndA(nerveInAnswer);
+        modelManager.addQAndA(QUESTION1);
+        modelManager.addQAndA(nerveInQuestion);
+
+        modelManager.updateFilteredQAndAList(new RankedQueryPredicate(Collections.singletonList("nerve"), 10));
+        assertEquals(Arrays.asList(nerveInQuestion, nerveInAnswer), modelManager.getFilteredQAndAList());
+
+        modelManager.updateFilteredQAndAList(new RankedQueryPredicate(Collections.singletonList("nerve"), 1));
+        assertEquals(Collections.singletonList(nerveInQuestion), modelManager.getFilteredQAndAList());
+
+        modelManager.updateFilteredQAndAList(PREDICATE_SHOW_ALL_QANDA);
+        assertEquals(Arrays.asList(nerveInAnswer, QUESTION1, nerveInQuestion), modelManager.getFilteredQAndAList());
+    }
+
+    @Test
+    public void updateFilteredQAndAList_sameRankedPredicateAfterEdit_ranksAgain() {
+        QAndA nerveInAnswer = new QAndABuilder().withQuestion("What supplies the diaphragm?")
+                .withAnswer("The phrenic nerve").build();
+        QAndA nerveInQuestion = new QAndABuilder(QUESTION1).withQuestion("Which nerve supplies the diaphragm?")
+                .withAnswer("Phrenic").build();
+        modelManager.addQAndA(nerveInAnswer);
+        modelManager.addQAndA(QUESTION1);
+        RankedQueryPredicate predicate = new RankedQueryPredicate(Collections.singletonList("nerve"), 1);
+        modelManager.updateFilteredQAndAList(predicate);
+
+        // a qAndA matching after the search is shown after the ranked ones until the search is repeated
+        modelManager.setQAndA(QUESTION1, nerveInQuestion);
+        assertEquals(Arrays.asList(nerveInAnswer, nerveInQuestion), modelManager.getFilteredQAndAList());
+        modelManager.updateFilteredQAndAList(new RankedQueryPredicate(Collections.singletonList("nerve"), 1));
+        assertEquals(Collections.singletonList(nerveInQuestion), modelManager.getFilteredQAndAList());
+    }
+
+    @Test
+    public void updateFilteredQAndAList_repeatedPredicate_reusesCachedResult() {
+        modelManager.addQAndA(QUESTION1);
+        modelManager.addQAndA(QUESTION2);
+        List<String> keywords = Collections.singletonList("question");
+
+        modelManager.updateFilteredQAndAList(new QuestionContainsKeywordsPredicate(keywords));
+        modelManager.updateFilteredQAndAList(PREDICATE_SHOW_ALL_QANDA);
+        assertEquals(0, modelManager.getQueryCacheHits());
+        assertEquals(1, modelManager.getQueryCacheMisses());
+
+        // results are patched as qAndAs are added, edited and deleted through the model
+        modelManager.addQAndA(QUESTION3);
+        QAndA edited = new QAndABuilder(QUESTION1).withQuestion("Edited").build();
+        modelManager.setQAndA(QUESTION1, edited);
+        modelManager.setQAndA(edited, QUESTION1);
+        modelManager.deleteQAndA(QUESTION2);
+        assertIndexedFilterMatchesScan(new QuestionContainsKeywordsPredicate(keywords));
+        assertEquals(1, modelManager.getQueryCacheHits());
+        assertEquals(1, modelManager.getQueryCacheMisses());
+
+        // other changes to the medmoriser make the cached results stale
+        ((Medmoriser) modelManager.getMedmoriser()).removeQAndA(QUESTION3);
+        modelManager.updateFilteredQAndAList(PREDICATE_SHOW_ALL_QANDA);
+        assertIndexedFilterMatchesScan(new QuestionContainsKeywordsPredicate(keywords));
+        assertEquals(2, modelManager.getQueryCacheMisses());
+    }
+
+    private void assertIndexedFilterMatchesScan(Predicate<QAndA> predicate) {
+        List<QAndA> expected = modelManager.getMedmoriser().getQAndAList().stream()
+                .filter(predicate).collect(Collectors.toList());
+        modelManager.updateFilteredQAndAList(predicate);
+        assertEquals(expected, modelManager.getFilteredQAndAList());
+    }
+
     @Test
     public void getFilteredQAndAList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredQAndAList().remove(0));
     }
 
+    @Test
+    public void constructor_readOnlyDeck_usedAsIsAndNotModifiable() {
+        ReadOnlyDeck deck = () -> FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(QUESTION1, QUESTION2));
+        ModelManager readOnlyModel = new ModelManager(deck, new UserPrefs());
+
+        assertTrue(readOnlyModel.isMedmoriserReadOnly());
+        assertFalse(modelManager.isMedmoriserReadOnly());
+        assertSame(deck, readOnlyModel.getMedmoriser());
+        assertTrue(readOnlyModel.hasQAndA(QUESTION1));
+        assertFalse(readOnlyModel.hasQAndA(QUESTION3));
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModel.addQAndA(QUESTION3));
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModel.deleteQAndA(QUESTION1));
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModel.setMedmoriser(new Medmoriser()));
+        assertEquals(0, readOnlyModel.getMedmoriserGeneration());
+    }
+
+    @Test
+    public void updateFilteredQAndAList_readOnlyDeckWithIndexedPredicate_scansDeck() {
+        ReadOnlyDeck deck = () -> FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(QUESTION1, QUESTION2, QUESTION3));
+        ModelManager readOnlyModel = new ModelManager(deck, new UserPrefs());
+
+        readOnlyModel.updateFilteredQAndAList(new TagContainsKeywordsPredicate(Collections.singletonList("dna")));
+        assertEquals(Collections.singletonList(QUESTION1), readOnlyModel.getFilteredQAndAList());
+    }
+
+    @Test
+    public void updateFilteredQAndAList_readOnlyDeckWithRankedPredicate_ranksDeck() {
+        QAndA nerveInAnswer = new QAndABuilder().withQuestion("What supplies the diaphragm?")
+                .withAnswer("The phrenic nerve").build();
+        QAndA nerveInQuestion = new QAndABuilder().withQuestion("Which nerve supplies the diaphragm?")
+                .withAnswer("Phrenic").build();
+        ReadOnlyDeck deck = () -> FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(nerveInAnswer, QUESTION1, nerveInQuestion));
+        ModelManager readOnlyModel = new ModelManager(deck, new UserPrefs());
+
+        readOnlyModel.updateFilteredQAndAList(new RankedQueryPredicate(Collections.singletonList("nerve"), 10));
+        assertEquals(Arrays.asList(nerveInQuestion, nerveInAnswer), readOnlyModel.getFilteredQAndAList());
+        readOnlyModel.updateFilteredQAndAList(new RankedQueryPredicate(Collections.singletonList("nerve"), 1));
+        assertEquals(Collections.singletonList(nerveInQuestion), readOnlyModel.getFilteredQAndAList());
+    }
+
     @Test
     public void equals() {
         Medmoriser medmoriser = new MedmoriserBuilder().withQAndA(QUESTION1).withQAndA(QUESTION2).build();
@@ -0,0 +1,63 @@
+package seedu.medmoriser.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION3;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
+import seedu.medmoriser.model.search.RankedQueryPredicate;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class QueryResultCacheTest {
+
+    private final QueryResultCache cache = new QueryResultCache(QueryResultCache.DEFAULT_CAPACITY);
+
+    @Test
+    public void get_equalPredicateSameGeneration_returnsCachedIds() {
+        cache.put(new QuestionContainsKeywordsPredicate(Arrays.asList("heart")), 3, Arrays.asList(2L, 1L));
+
+        assertEquals(Optional.of(Arrays.asList(2L, 1L)),
+                cache.get(new QuestionContainsKeywordsPredicate(Arrays.asList("heart")), 3));
+        assertEquals(Optional.empty(), cache.get(new QuestionContainsKeywordsPredicate(Arrays.asList("lung")), 3));
+        assertEquals(Optional.empty(), cache.get(new QuestionContainsKeywordsPredicate(Arrays.asList("heart")), 4));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void update_singleChange_patchesResultsOfThatGeneration() {
+        QuestionContainsKeywordsPredicate predicate = new QuestionContainsKeywordsPredicate(Arrays.asList("question"));
+        QAndA unrelated = new QAndABuilder().withQuestion("Heart").build();
+        cache.put(predicate, 1, Arrays.asList(QUESTION1.getId(), QUESTION2.getId()));
+
+        cache.update(1, 2, null, QUESTION3);
+        cache.update(2, 3, null, unrelated);
+        assertEquals(Optional.of(Arrays.asList(QUESTION1.getId(), QUESTION2.getId(), QUESTION3.getId())),
+                cache.get(predicate, 3));
+
+        QAndA edited = new QAndABuilder(QUESTION1).withQuestion("Edited").build();
+        cache.update(3, 4, QUESTION1, edited);
+        cache.update(4, 5, QUESTION3, null);
+        assertEquals(Optional.of(Collections.singletonList(QUESTION2.getId())), cache.get(predicate, 5));
+    }
+
+    @Test
+    public void update_rankedOrStaleResult_dropsIt() {
+        RankedQueryPredicate ranked = new RankedQueryPredicate(Arrays.asList("question"), 10);
+        QuestionContainsKeywordsPredicate stale = new QuestionContainsKeywordsPredicate(Arrays.asList("question"));
+        cache.put(ranked, 1, Collections.singletonList(QUESTION1.getId()));
+        cache.put(stale, 0, Collections.singletonList(QUESTION1.getId()));
+
+        cache.update(1, 2, null, QUESTION2);
+        assertEquals(Optional.empty(), cache.get(ranked, 2));
+        assertEquals(Optional.empty(), cache.get(stale, 0));
+    }
+}
@@ -1,9 +1,16 @@
 package seedu.medmoriser.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.medmoriser.commons.core.DataFileFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +25,44 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setMedmoriserFilePath(null));
     }
 
+    @Test
+    public void resetData_compactDataFile_copiesIt() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileCompact(true);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isDataFileCompact());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void resetData_dataFileFormat_copiesIt() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileFormat(DataFileFormat.JOURNAL);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(DataFileFormat.JOURNAL, copy.getDataFileFormat());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void resetData_quarantiningInvalidQAndAs_copiesIt() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setQuarantiningInvalidQAndAs(true);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isQuarantiningInvalidQAndAs());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void resetData_synonymsFilePath_copiesIt() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSynonymsFilePath(Paths.get("medical", "synonyms.txt"));
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(Paths.get("medical", "synonyms.txt"), copy.getSynonymsFilePath());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
@@ -1,11 +1,15 @@
 package seedu.medmoriser.model.qanda;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -75,4 +79,44 @@ public class QAndAContainsKeywordPredicateTest {
         assertFalse(predicate.test(new QAndABuilder().withQuestion("Alice")
                 .withTags("fakeTag").withAnswer("Main Street").build()));
     }
+
+    @Test
+    public void test_keywordWithPunctuation_matchesWholeWords() {
+        QAndAContainsKeywordsPredicate predicate = new QAndAContainsKeywordsPredicate(Arrays.asList("x-ray"));
+        assertTrue(predicate.test(new QAndABuilder().withQuestion("Is an X-ray safe?").withAnswer("Yes").build()));
+        assertTrue(predicate.test(new QAndABuilder().withQuestion("Are X-rays safe?").withAnswer("Yes").build()));
+        assertFalse(predicate.test(new QAndABuilder().withQuestion("Is an X-rayed bone safe?").withAnswer("Yes")
+                .build()));
+    }
+
+    @Test
+    public void test_questionContainsKeyword_answerNotLoaded() {
+        QAndAContainsKeywordsPredicate predicate = new QAndAContainsKeywordsPredicate(Arrays.asList("kidney"));
+        AnswerHandle unloadable = () -> {
+            throw new AssertionError("The answer should not be loaded.");
+        };
+        assertTrue(predicate.test(new QAndA(1, new Question("What does the kidney do?"), unloadable,
+                Collections.emptySet())));
+    }
+
+    @Test
+    public void test_hundredThousandQAndAs_sameMatchesAsCompilingPerComparison() {
+        List<QAndA> qAndAs = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            qAndAs.add(new QAndABuilder().withQuestion("What does organ " + i + " do?")
+                    .withAnswer("It pumps blood around the body " + i).build());
+        }
+        List<String> keywords = Arrays.asList("kidney", "liver", "99999");
+        QAndAContainsKeywordsPredicate predicate = new QAndAContainsKeywordsPredicate(keywords);
+        Predicate<QAndA> compilingPerComparison = qAndA -> keywords.stream().anyMatch(keyword -> {
+            String regex = ".*\\b" + Pattern.quote(keyword.toLowerCase()) + "\\b.*";
+            return qAndA.getQuestion().question.toLowerCase().matches(regex)
+                    || qAndA.getAnswer().answer.toLowerCase().matches(regex);
+        });
+
+        for (QAndA qAndA : qAndAs) {
+            assertEquals(compilingPerComparison.test(qAndA), predicate.test(qAndA), qAndA.getQuestion().question);
+        }
+        assertEquals(1, qAndAs.stream().filter(predicate).count());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.medmoriser.model.qanda;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.VALID_ANSWER_B;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.VALID_QUESTION_B;
@@ -21,6 +23,38 @@ public class QAndATest {
         assertThrows(UnsupportedOperationException.class, () -> qAndA.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_withoutId_assignsDistinctIds() {
+        QAndA first = new QAndABuilder().build();
+        QAndA second = new QAndABuilder().build();
+        assertNotEquals(first.getId(), second.getId());
+    }
+
+    @Test
+    public void constructor_withId_keepsIdAndAdvancesSequence() {
+        long existingId = new QAndABuilder().build().getId() + 1000;
+        QAndA qAndA = new QAndA(existingId, QUESTION1.getQuestion(), QUESTION1.getAnswer(), QUESTION1.getTags());
+        assertEquals(existingId, qAndA.getId());
+        assertTrue(new QAndABuilder().build().getId() > existingId);
+    }
+
+    @Test
+    public void equals_differentIdSameFields_returnsTrue() {
+        QAndA qAndA = new QAndA(QUESTION1.getId() + 1, QUESTION1.getQuestion(), QUESTION1.getAnswer(),
+                QUESTION1.getTags());
+        assertTrue(QUESTION1.equals(qAndA));
+        assertEquals(QUESTION1.hashCode(), qAndA.hashCode());
+    }
+
+    @Test
+    public void equals_sameTagsAddedInDifferentOrder_returnsTrue() {
+        QAndA qAndA = new QAndABuilder().withTags("Neurology", "Anatomy", "Cells").build();
+        QAndA reordered = new QAndABuilder().withTags("Cells", "Neurology", "Anatomy").build();
+        assertTrue(qAndA.equals(reordered));
+        assertEquals(qAndA.hashCode(), reordered.hashCode());
+        assertFalse(qAndA.equals(new QAndABuilder().withTags("Neurology", "Anatomy").build()));
+    }
+
     @Test
     public void isSameQAndA() {
         // same object -> returns true
@@ -7,12 +7,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.medmoriser.model.search.Analyzer;
+import seedu.medmoriser.model.search.SynonymDictionary;
 import seedu.medmoriser.testutil.QAndABuilder;
 
 public class QuestionContainsKeywordsPredicateTest {
 
+    @AfterEach
+    public void tearDown() {
+        Analyzer.setDefault(new Analyzer(Analyzer.STANDARD_FILTERS, SynonymDictionary.EMPTY));
+    }
+
     @Test
     public void equals() {
         List<String> firstPredicateKeywordList = Collections.singletonList("first");
@@ -61,6 +69,19 @@ public class QuestionContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new QAndABuilder().withQuestion("Alice Bob").build()));
     }
 
+    @Test
+    public void test_questionContainsPluralOrSynonymOfKeyword_returnsTrue() {
+        QuestionContainsKeywordsPredicate predicate =
+                new QuestionContainsKeywordsPredicate(Collections.singletonList("rib fracture"));
+        assertTrue(predicate.test(new QAndABuilder().withQuestion("Where do rib fractures hurt?").build()));
+
+        Analyzer.setDefault(new Analyzer(Analyzer.STANDARD_FILTERS,
+                SynonymDictionary.parse(Collections.singletonList("MI, myocardial infarction"))));
+        predicate = new QuestionContainsKeywordsPredicate(Collections.singletonList("mi"));
+        assertTrue(predicate.test(new QAndABuilder().withQuestion("Signs of a Myocardial Infarction?").build()));
+        assertFalse(predicate.test(new QAndABuilder().withQuestion("Signs of infarction of the myocardium?").build()));
+    }
+
     @Test
     public void test_questionDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
@@ -1,11 +1,19 @@
 package seedu.medmoriser.model.qanda;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.medmoriser.model.search.Analyzer;
+import seedu.medmoriser.model.search.SynonymDictionary;
+
 public class QuestionTest {
 
     @Test
@@ -35,4 +43,23 @@ public class QuestionTest {
         assertTrue(Question.isValidQuestion("Capital Tan")); // with capital letters
         assertTrue(Question.isValidQuestion("David Roger Jackson Ray Jr 2nd")); // long question
     }
+
+    @Test
+    public void getLowerCased() {
+        Question question = new Question("What is the LARGEST organ?");
+        assertEquals("what is the largest organ?", question.getLowerCased());
+        assertSame(question.getLowerCased(), question.getLowerCased());
+    }
+
+    @Test
+    public void getTerms() {
+        Question question = new Question("Which organs filter Blood?");
+        Analyzer analyzer = new Analyzer(Analyzer.STANDARD_FILTERS, SynonymDictionary.EMPTY);
+        assertEquals(analyzer.analyze("Which organs filter Blood?"), question.getTerms(analyzer));
+        assertSame(question.getTerms(analyzer), question.getTerms(analyzer));
+
+        // terms cached for one analyzer are not returned for another
+        Analyzer unstemmed = new Analyzer(Collections.emptyList(), SynonymDictionary.EMPTY);
+        assertEquals(Arrays.asList("which", "organs", "filter", "blood"), question.getTerms(unstemmed));
+    }
 }
@@ -1,14 +1,18 @@
 package seedu.medmoriser.model.qanda;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.medmoriser.model.search.SearchIndex;
 import seedu.medmoriser.testutil.QAndABuilder;
 
 public class TagContainsKeywordPredicateTest {
@@ -83,4 +87,21 @@ public class TagContainsKeywordPredicateTest {
         assertFalse(predicate.test(new QAndABuilder().withQuestion("Alice").withAnswer("Main Street")
                 .withTags("Immunology").build()));
     }
+
+    @Test
+    public void getCandidateIds_tagKeywords_returnsExactMatches() {
+        QAndA dna = new QAndABuilder().withQuestion("Q1").withTags("DNA").build();
+        QAndA anatomy = new QAndABuilder().withQuestion("Q2").withTags("Human Anatomy", "dna").build();
+        QAndA untagged = new QAndABuilder().withQuestion("Q3").withTags().build();
+        SearchIndex index = new SearchIndex(Arrays.asList(dna, anatomy, untagged));
+
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(dna.getId(), anatomy.getId()))),
+                new TagContainsKeywordsPredicate(Arrays.asList("Dna")).getCandidateIds(index));
+        assertEquals(Optional.of(Collections.singleton(anatomy.getId())),
+                new TagContainsKeywordsPredicate(Arrays.asList("human anatomy", "Cells")).getCandidateIds(index));
+        assertEquals(Optional.of(Collections.singleton(untagged.getId())),
+                new TagContainsKeywordsPredicate(Arrays.asList("t")).getCandidateIds(index));
+        assertEquals(Optional.of(Collections.emptySet()),
+                new TagContainsKeywordsPredicate(Arrays.asList("Cells")).getCandidateIds(index));
+    }
 }
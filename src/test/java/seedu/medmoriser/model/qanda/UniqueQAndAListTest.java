@@ -2,19 +2,25 @@ package seedu.medmoriser.model.qanda;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.VALID_ANSWER_B;
 import static seedu.medmoriser.logic.commands.CommandTestUtil.VALID_TAG_TAG2;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION3;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTIONB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.medmoriser.model.qanda.exceptions.DuplicateQAndAException;
 import seedu.medmoriser.model.qanda.exceptions.QAndANotFoundException;
 import seedu.medmoriser.testutil.QAndABuilder;
@@ -47,6 +53,29 @@ public class UniqueQAndAListTest {
         assertTrue(uniqueQAndAList.contains(editedQuestion1));
     }
 
+    @Test
+    public void contains_qAndARemovedFromList_returnsFalse() {
+        uniqueQAndAList.add(QUESTION1);
+        uniqueQAndAList.remove(QUESTION1);
+        assertFalse(uniqueQAndAList.contains(QUESTION1));
+    }
+
+    @Test
+    public void contains_qAndAReplacedInList_returnsFalse() {
+        uniqueQAndAList.add(QUESTION1);
+        uniqueQAndAList.setQAndA(QUESTION1, QUESTIONB);
+        assertFalse(uniqueQAndAList.contains(QUESTION1));
+        assertTrue(uniqueQAndAList.contains(QUESTIONB));
+    }
+
+    @Test
+    public void contains_qAndAsReplacedByList_returnsTrueOnlyForNewQAndAs() {
+        uniqueQAndAList.add(QUESTION1);
+        uniqueQAndAList.setQAndAs(Collections.singletonList(QUESTIONB));
+        assertFalse(uniqueQAndAList.contains(QUESTION1));
+        assertTrue(uniqueQAndAList.contains(QUESTIONB));
+    }
+
     @Test
     public void add_nullQAndA_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueQAndAList.add(null));
@@ -58,6 +87,27 @@ public class UniqueQAndAListTest {
         assertThrows(DuplicateQAndAException.class, () -> uniqueQAndAList.add(QUESTION1));
     }
 
+    @Test
+    public void add_qAndAWithIdInList_throwsDuplicateQAndAException() {
+        uniqueQAndAList.add(QUESTION1);
+        QAndA sameId = new QAndA(QUESTION1.getId(), QUESTIONB.getQuestion(), QUESTIONB.getAnswer(),
+                QUESTIONB.getTags());
+        assertThrows(DuplicateQAndAException.class, () -> uniqueQAndAList.add(sameId));
+    }
+
+    @Test
+    public void get_idInList_returnsQAndA() {
+        uniqueQAndAList.add(QUESTION1);
+        uniqueQAndAList.add(QUESTIONB);
+        assertSame(QUESTIONB, uniqueQAndAList.get(QUESTIONB.getId()));
+    }
+
+    @Test
+    public void get_idNotInList_returnsNull() {
+        uniqueQAndAList.add(QUESTION1);
+        assertNull(uniqueQAndAList.get(QUESTIONB.getId()));
+    }
+
     @Test
     public void setQAndA_nullTargetQAndA_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueQAndAList.setQAndA(null, QUESTION1));
@@ -104,6 +154,15 @@ public class UniqueQAndAListTest {
         assertEquals(expectedUniqueQAndAList, uniqueQAndAList);
     }
 
+    @Test
+    public void setQAndA_equalCopyOfTarget_replacesTarget() {
+        uniqueQAndAList.add(QUESTION1);
+        QAndA question1Copy = new QAndABuilder(QUESTION1).build();
+        uniqueQAndAList.setQAndA(question1Copy, QUESTIONB);
+        assertSame(QUESTIONB, uniqueQAndAList.get(QUESTIONB.getId()));
+        assertNull(uniqueQAndAList.get(QUESTION1.getId()));
+    }
+
     @Test
     public void setQAndA_editedQAndAHasNonUniqueIdentity_throwsDuplicateQAndAException() {
         uniqueQAndAList.add(QUESTION1);
@@ -130,6 +189,56 @@ public class UniqueQAndAListTest {
         assertEquals(expectedUniqueQAndAList, uniqueQAndAList);
     }
 
+    @Test
+    public void remove_qAndABeforeOthers_keepsLaterQAndAsReachableById() {
+        uniqueQAndAList.add(QUESTION1);
+        uniqueQAndAList.add(QUESTION2);
+        uniqueQAndAList.add(QUESTION3);
+        uniqueQAndAList.remove(QUESTION1);
+        assertSame(QUESTION2, uniqueQAndAList.get(QUESTION2.getId()));
+        assertSame(QUESTION3, uniqueQAndAList.get(QUESTION3.getId()));
+        uniqueQAndAList.remove(QUESTION3);
+        assertEquals(Collections.singletonList(QUESTION2), uniqueQAndAList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_manyQAndAsBetweenEdits_keepsListAndIdsInStep() {
+        List<QAndA> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            QAndA qAndA = new QAndABuilder().withQuestion("Question " + i).build();
+            uniqueQAndAList.add(qAndA);
+            expected.add(qAndA);
+        }
+
+        // remove from the front, middle and back so that most remembered positions go out of date
+        for (int i = 0; i < 60; i++) {
+            QAndA toRemove = expected.remove(i % 3 == 0 ? 0 : i % 3 == 1 ? expected.size() / 2 : expected.size() - 1);
+            assertSame(toRemove, uniqueQAndAList.remove(toRemove));
+            if (i % 7 == 0) {
+                int target = expected.size() - 1 - i % expected.size();
+                QAndA edited = new QAndABuilder(expected.get(target)).withAnswer(VALID_ANSWER_B).build();
+                uniqueQAndAList.setQAndA(expected.get(target), edited);
+                expected.set(target, edited);
+            }
+        }
+
+        assertEquals(expected, uniqueQAndAList.asUnmodifiableObservableList());
+        for (QAndA qAndA : expected) {
+            assertSame(qAndA, uniqueQAndAList.get(qAndA.getId()));
+        }
+        for (QAndA qAndA : new ArrayList<>(expected)) {
+            uniqueQAndAList.remove(qAndA);
+        }
+        assertEquals(new UniqueQAndAList(), uniqueQAndAList);
+    }
+
+    @Test
+    public void remove_qAndAWithSameQuestionButDifferentFields_throwsQAndANotFoundException() {
+        uniqueQAndAList.add(QUESTION1);
+        QAndA editedQuestion1 = new QAndABuilder(QUESTION1).withAnswer(VALID_ANSWER_B).build();
+        assertThrows(QAndANotFoundException.class, () -> uniqueQAndAList.remove(editedQuestion1));
+    }
+
     @Test
     public void setQAndAs_nullUniqueQAndAList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
@@ -168,6 +277,52 @@ public class UniqueQAndAListTest {
             uniqueQAndAList.setQAndAs(listWithDuplicateQAndAs));
     }
 
+    @Test
+    public void setQAndAs_listWithDuplicateQuestions_reportsEveryDuplicate() {
+        QAndA editedQuestion1 = new QAndABuilder(QUESTION1).withTags(VALID_TAG_TAG2).build();
+        QAndA editedQuestionB = new QAndABuilder(QUESTIONB).withAnswer(VALID_ANSWER_B).build();
+        List<QAndA> listWithDuplicateQAndAs = Arrays.asList(QUESTION1, QUESTIONB, editedQuestion1, editedQuestionB);
+        DuplicateQAndAException thrown = assertThrows(DuplicateQAndAException.class, () ->
+            uniqueQAndAList.setQAndAs(listWithDuplicateQAndAs));
+        assertEquals(Arrays.asList(editedQuestion1, editedQuestionB), thrown.getDuplicates());
+    }
+
+    @Test
+    public void setQAndAs_listWithManyDuplicateQuestions_namesOnlyFirstFewInMessage() {
+        List<QAndA> listWithDuplicateQAndAs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            QAndA qAndA = new QAndABuilder().withQuestion("Question " + i).build();
+            listWithDuplicateQAndAs.add(qAndA);
+            listWithDuplicateQAndAs.add(new QAndABuilder(qAndA).build());
+        }
+        DuplicateQAndAException thrown = assertThrows(DuplicateQAndAException.class, () ->
+            uniqueQAndAList.setQAndAs(listWithDuplicateQAndAs));
+        assertEquals("Operation would result in duplicate QAndAs: "
+                + "Question 0, Question 1, Question 2, Question 3, Question 4 and 3 more", thrown.getMessage());
+        assertEquals(8, thrown.getDuplicates().size());
+    }
+
+    @Test
+    public void setQAndAs_listWithDuplicateQuestions_leavesOwnListUnchanged() {
+        uniqueQAndAList.add(QUESTIONB);
+        assertThrows(DuplicateQAndAException.class, () ->
+            uniqueQAndAList.setQAndAs(Arrays.asList(QUESTION1, QUESTION1)));
+        UniqueQAndAList expectedUniqueQAndAList = new UniqueQAndAList();
+        expectedUniqueQAndAList.add(QUESTIONB);
+        assertEquals(expectedUniqueQAndAList, uniqueQAndAList);
+        assertFalse(uniqueQAndAList.contains(QUESTION1));
+    }
+
+    @Test
+    public void setQAndAs_list_notifiesListenersOnce() {
+        uniqueQAndAList.add(QUESTION1);
+        int[] changeCount = {0};
+        uniqueQAndAList.asUnmodifiableObservableList().addListener((ListChangeListener<QAndA>) change ->
+            changeCount[0]++);
+        uniqueQAndAList.setQAndAs(Arrays.asList(QUESTIONB, QUESTION2, QUESTION3));
+        assertEquals(1, changeCount[0]);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
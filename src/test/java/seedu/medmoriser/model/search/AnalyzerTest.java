@@ -0,0 +1,51 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class AnalyzerTest {
+
+    private final Analyzer analyzer = new Analyzer(Analyzer.STANDARD_FILTERS, SynonymDictionary.parse(Arrays.asList(
+            "MI, myocardial infarction, heart attacks", "myocardial infarction, STEMI")));
+
+    @Test
+    public void analyze_pluralTerms_returnsSingularTerms() {
+        assertEquals(Arrays.asList("fracture", "of", "the", "rib", "and", "artery"),
+                analyzer.analyze("Fractures of the ribs and arteries"));
+        assertEquals(Arrays.asList("virus", "stenosis", "abscess", "gas"),
+                analyzer.analyze("virus stenosis abscess gas"));
+    }
+
+    @Test
+    public void expand_keywordWithSynonyms_returnsOwnTermsThenSynonyms() {
+        assertEquals(Arrays.asList(Arrays.asList("mi"), Arrays.asList("myocardial", "infarction"),
+                Arrays.asList("heart", "attack")), analyzer.expand("mi"));
+        assertEquals(Arrays.asList(Arrays.asList("heart", "attack"), Arrays.asList("mi"),
+                Arrays.asList("myocardial", "infarction")), analyzer.expand("Heart attack"));
+
+        // a phrase in several groups expands into all of them
+        assertEquals(Arrays.asList(Arrays.asList("myocardial", "infarction"), Arrays.asList("mi"),
+                Arrays.asList("heart", "attack"), Arrays.asList("stemi")), analyzer.expand("myocardial infarctions"));
+    }
+
+    @Test
+    public void expand_keywordWithoutSynonymsOrTerms_returnsOwnTermsOnly() {
+        assertEquals(Collections.singletonList(Arrays.asList("murmur")), analyzer.expand("murmurs"));
+        assertEquals(Collections.emptyList(), analyzer.expand("?!"));
+    }
+
+    @Test
+    public void containsPhrase() {
+        assertTrue(Analyzer.containsPhrase(Arrays.asList("acute", "myocardial", "infarction"),
+                Arrays.asList("myocardial", "infarction")));
+        assertFalse(Analyzer.containsPhrase(Arrays.asList("infarction", "myocardial"),
+                Arrays.asList("myocardial", "infarction")));
+        assertFalse(Analyzer.containsPhrase(Arrays.asList("mi"), Collections.emptyList()));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.medmoriser.model.qanda.AnswerContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class BooleanQueryPredicateTest {
+
+    private static final IndexedPredicate CARDIOLOGY =
+            new TagContainsKeywordsPredicate(Collections.singletonList("cardiology"));
+    private static final IndexedPredicate MURMUR =
+            new QuestionContainsKeywordsPredicate(Collections.singletonList("murmur"));
+    private static final IndexedPredicate AORTIC =
+            new AnswerContainsKeywordsPredicate(Collections.singletonList("aortic"));
+
+    private final QAndA aorticMurmur = new QAndABuilder().withQuestion("Which murmur is systolic?")
+            .withAnswer("Aortic stenosis").withTags("Cardiology").build();
+    private final QAndA mitralMurmur = new QAndABuilder().withQuestion("Which murmur is diastolic?")
+            .withAnswer("Mitral stenosis").withTags("Cardiology").build();
+    private final QAndA heartRate = new QAndABuilder().withQuestion("What is a normal heart rate?")
+            .withAnswer("60 to 100").withTags("Cardiology").build();
+    private final QAndA pulmonaryMurmur = new QAndABuilder().withQuestion("Is a flow murmur harmless?")
+            .withAnswer("Usually").withTags("Paediatrics").build();
+
+    @Test
+    public void test_compoundQuery_combinesOperands() {
+        BooleanQueryPredicate predicate = BooleanQueryPredicate.and(Arrays.asList(CARDIOLOGY, MURMUR,
+                BooleanQueryPredicate.not(AORTIC)));
+        assertTrue(predicate.test(mitralMurmur));
+        assertFalse(predicate.test(aorticMurmur));
+        assertFalse(predicate.test(heartRate));
+        assertFalse(predicate.test(pulmonaryMurmur));
+
+        BooleanQueryPredicate either = BooleanQueryPredicate.or(Arrays.asList(AORTIC, MURMUR));
+        assertTrue(either.test(aorticMurmur));
+        assertTrue(either.test(pulmonaryMurmur));
+        assertFalse(either.test(heartRate));
+    }
+
+    @Test
+    public void getCandidateIds_compoundQueries_includeEveryMatch() {
+        List<QAndA> qAndAs = Arrays.asList(aorticMurmur, mitralMurmur, heartRate, pulmonaryMurmur);
+        SearchIndex index = new SearchIndex(qAndAs);
+        List<IndexedPredicate> predicates = Arrays.asList(
+                BooleanQueryPredicate.and(Arrays.asList(CARDIOLOGY, MURMUR, BooleanQueryPredicate.not(AORTIC))),
+                BooleanQueryPredicate.or(Arrays.asList(AORTIC, BooleanQueryPredicate.and(
+                        Arrays.asList(MURMUR, BooleanQueryPredicate.not(CARDIOLOGY))))),
+                BooleanQueryPredicate.not(MURMUR));
+
+        for (IndexedPredicate predicate : predicates) {
+            Set<Long> matches = qAndAs.stream().filter(predicate).map(QAndA::getId).collect(Collectors.toSet());
+            Optional<Set<Long>> candidates = predicate.getCandidateIds(index);
+            assertTrue(!candidates.isPresent() || candidates.get().containsAll(matches));
+        }
+        assertEquals(Optional.empty(), BooleanQueryPredicate.not(MURMUR).getCandidateIds(index));
+    }
+
+    @Test
+    public void getCandidateIds_andWithSelectiveOperand_intersectsPostings() {
+        List<QAndA> qAndAs = new ArrayList<>(Arrays.asList(aorticMurmur, mitralMurmur, pulmonaryMurmur));
+        for (int i = 0; i < 20; i++) {
+            qAndAs.add(new QAndABuilder().withQuestion("Cardiology question " + i).withAnswer("Answer " + i)
+                    .withTags("Cardiology").build());
+        }
+        SearchIndex index = new SearchIndex(qAndAs);
+
+        BooleanQueryPredicate predicate = BooleanQueryPredicate.and(Arrays.asList(CARDIOLOGY, MURMUR));
+        assertEquals(3, predicate.estimateCandidateCount(index));
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(aorticMurmur.getId(), mitralMurmur.getId()))),
+                predicate.getCandidateIds(index));
+    }
+
+    @Test
+    public void equals() {
+        BooleanQueryPredicate predicate = BooleanQueryPredicate.and(Arrays.asList(CARDIOLOGY, MURMUR));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(BooleanQueryPredicate.and(Arrays.asList(CARDIOLOGY, MURMUR))));
+
+        // different operator -> returns false
+        assertFalse(predicate.equals(BooleanQueryPredicate.or(Arrays.asList(CARDIOLOGY, MURMUR))));
+
+        // different operands -> returns false
+        assertFalse(predicate.equals(BooleanQueryPredicate.and(Arrays.asList(CARDIOLOGY, AORTIC))));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+}
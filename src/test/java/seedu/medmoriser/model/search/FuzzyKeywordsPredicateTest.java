@@ -0,0 +1,79 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.medmoriser.model.qanda.AnswerHandle;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class FuzzyKeywordsPredicateTest {
+
+    private final QAndA tumour = new QAndABuilder().withQuestion("What does a pheochromocytoma secrete?")
+            .withAnswer("Catecholamines").build();
+    private final QAndA enzyme = new QAndABuilder().withQuestion("What breaks down acetylcholine?")
+            .withAnswer("Acetylcholinesterase in the synaptic cleft").build();
+    private final QAndA cat = new QAndABuilder().withQuestion("What is a CAT scan?").withAnswer("Imaging").build();
+
+    @Test
+    public void test_misspeltKeywords_returnsTrue() {
+        assertTrue(new FuzzyKeywordsPredicate(Collections.singletonList("pheochromocytona")).test(tumour));
+        assertTrue(new FuzzyKeywordsPredicate(Collections.singletonList("catecholamine")).test(tumour));
+        assertTrue(new FuzzyKeywordsPredicate(Collections.singletonList("acetylcolinesterase synaptik"))
+                .test(enzyme));
+    }
+
+    @Test
+    public void test_tooManyEditsOrShortTerm_returnsFalse() {
+        assertFalse(new FuzzyKeywordsPredicate(Collections.singletonList("chromocytoma")).test(tumour));
+        assertFalse(new FuzzyKeywordsPredicate(Collections.singletonList("cot")).test(cat));
+        assertFalse(new FuzzyKeywordsPredicate(Collections.singletonList("acetylcolinesterase pheochromocytoma"))
+                .test(enzyme));
+        assertFalse(new FuzzyKeywordsPredicate(Collections.singletonList("?")).test(cat));
+    }
+
+    @Test
+    public void test_misspeltKeywordInQuestion_answerNotLoaded() {
+        AnswerHandle unloadable = () -> {
+            throw new AssertionError("The answer should not be loaded.");
+        };
+        QAndA unloadableTumour = new QAndA(1, tumour.getQuestion(), unloadable, Collections.emptySet());
+        assertTrue(new FuzzyKeywordsPredicate(Collections.singletonList("pheochromocytona")).test(unloadableTumour));
+    }
+
+    @Test
+    public void getCandidateIds_misspeltKeywords_includeEveryMatch() {
+        List<QAndA> qAndAs = Arrays.asList(tumour, enzyme, cat);
+        SearchIndex index = new SearchIndex(qAndAs);
+        for (List<String> keywords : Arrays.asList(Arrays.asList("pheochromocytona", "cat"),
+                Arrays.asList("acetylcolinesterase synaptik"), Arrays.asList("imagin", "?"))) {
+            FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(keywords);
+            Set<Long> matches = qAndAs.stream().filter(predicate).map(QAndA::getId).collect(Collectors.toSet());
+            assertEquals(Optional.of(matches), predicate.getCandidateIds(index));
+        }
+    }
+
+    @Test
+    public void equals() {
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Arrays.asList("murmur", "aortic"));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new FuzzyKeywordsPredicate(Arrays.asList("murmur", "aortic"))));
+
+        // different keywords -> returns false
+        assertFalse(predicate.equals(new FuzzyKeywordsPredicate(Arrays.asList("murmur"))));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+}
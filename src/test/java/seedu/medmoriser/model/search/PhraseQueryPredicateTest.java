@@ -0,0 +1,95 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.SearchIndex.Field;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class PhraseQueryPredicateTest {
+
+    private final QAndA hypertrophy = new QAndABuilder().withQuestion("What causes left ventricular hypertrophy?")
+            .withAnswer("Hypertension makes the left ventricle wall thicken").build();
+    private final QAndA stenosis = new QAndABuilder().withQuestion("Which murmur does mitral stenosis cause?")
+            .withAnswer("A diastolic murmur, as the mitral valve has narrowed to a stenosis").build();
+    private final QAndA ventricles = new QAndABuilder().withQuestion("How many ventricles does the heart have?")
+            .withAnswer("Two: the right ventricle and the left").build();
+
+    @Test
+    public void test_phrase_matchesTermsTogetherOnly() {
+        assertTrue(PhraseQueryPredicate.phrase("Left ventricles", Field.ANSWER).test(hypertrophy));
+        assertFalse(PhraseQueryPredicate.phrase("left ventricle", Field.QUESTION).test(hypertrophy));
+        assertFalse(PhraseQueryPredicate.phrase("left ventricle", Field.QUESTION, Field.ANSWER).test(ventricles));
+        assertTrue(PhraseQueryPredicate.phrase("the left", Field.QUESTION, Field.ANSWER).test(ventricles));
+    }
+
+    @Test
+    public void test_near_matchesPhrasesWithinDistanceInEitherOrder() {
+        assertTrue(PhraseQueryPredicate.near("mitral", "stenosis", 0, Field.QUESTION).test(stenosis));
+        assertTrue(PhraseQueryPredicate.near("stenosis", "mitral", 0, Field.QUESTION).test(stenosis));
+        assertTrue(PhraseQueryPredicate.near("mitral", "stenosis", 5, Field.ANSWER).test(stenosis));
+        assertFalse(PhraseQueryPredicate.near("mitral", "stenosis", 4, Field.ANSWER).test(stenosis));
+        assertTrue(PhraseQueryPredicate.near("mitral valve", "stenosis", 4, Field.ANSWER).test(stenosis));
+        assertFalse(PhraseQueryPredicate.near("mitral valve", "stenosis", 3, Field.ANSWER).test(stenosis));
+
+        // the same occurrence cannot be near itself
+        assertFalse(PhraseQueryPredicate.near("murmur", "murmur", 10, Field.QUESTION).test(stenosis));
+        assertFalse(PhraseQueryPredicate.near("mitral stenosis", "stenosis", 10, Field.QUESTION).test(stenosis));
+
+        // both phrases must be in the same field
+        assertFalse(PhraseQueryPredicate.near("hypertrophy", "hypertension", 10, Field.QUESTION, Field.ANSWER)
+                .test(hypertrophy));
+    }
+
+    @Test
+    public void getCandidateIds_returnsExactlyTheMatches() {
+        List<QAndA> qAndAs = Arrays.asList(hypertrophy, stenosis, ventricles);
+        SearchIndex index = new SearchIndex(qAndAs);
+        List<PhraseQueryPredicate> predicates = new ArrayList<>();
+        for (Field[] fields : Arrays.asList(new Field[] {Field.QUESTION}, new Field[] {Field.ANSWER},
+                new Field[] {Field.QUESTION, Field.ANSWER})) {
+            predicates.add(PhraseQueryPredicate.phrase("left ventricle", fields));
+            predicates.add(PhraseQueryPredicate.phrase("the", fields));
+            predicates.add(PhraseQueryPredicate.phrase("heart attack", fields));
+            predicates.add(PhraseQueryPredicate.near("mitral", "stenosis", 0, fields));
+            predicates.add(PhraseQueryPredicate.near("murmur", "stenosis", 8, fields));
+            predicates.add(PhraseQueryPredicate.near("left", "ventricle", 3, fields));
+        }
+
+        for (PhraseQueryPredicate predicate : predicates) {
+            Set<Long> expected = qAndAs.stream().filter(predicate).map(QAndA::getId).collect(Collectors.toSet());
+            assertEquals(Optional.of(expected), predicate.getCandidateIds(index));
+            assertTrue(predicate.estimateCandidateCount(index) >= expected.size());
+        }
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(hypertrophy.getId(), ventricles.getId()))),
+                PhraseQueryPredicate.near("left", "ventricle", 3, Field.ANSWER).getCandidateIds(index));
+    }
+
+    @Test
+    public void equals() {
+        PhraseQueryPredicate phrase = PhraseQueryPredicate.phrase("left ventricle", Field.ANSWER);
+
+        // same analyzed terms -> returns true
+        assertTrue(phrase.equals(PhraseQueryPredicate.phrase("Left, ventricles", Field.ANSWER)));
+
+        // different fields, phrase, or kind of search -> returns false
+        assertFalse(phrase.equals(PhraseQueryPredicate.phrase("left ventricle", Field.QUESTION)));
+        assertFalse(phrase.equals(PhraseQueryPredicate.phrase("left atrium", Field.ANSWER)));
+        assertFalse(phrase.equals(PhraseQueryPredicate.near("left", "ventricle", 0, Field.ANSWER)));
+        assertFalse(PhraseQueryPredicate.near("left", "ventricle", 0, Field.ANSWER)
+                .equals(PhraseQueryPredicate.near("left", "ventricle", 1, Field.ANSWER)));
+        assertFalse(phrase.equals(null));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class RankedQueryPredicateTest {
+
+    private final QAndA nerveInAnswer = new QAndABuilder().withQuestion("What supplies the diaphragm?")
+            .withAnswer("The phrenic nerve").build();
+    private final QAndA nerveInQuestion = new QAndABuilder().withQuestion("Which nerve supplies the diaphragm?")
+            .withAnswer("Phrenic").build();
+    private final QAndA nerveRepeated = new QAndABuilder().withQuestion("Nerve roots of the phrenic nerve?")
+            .withAnswer("C3 to C5").build();
+    private final QAndA unrelated = new QAndABuilder().withQuestion("What is the femur?")
+            .withAnswer("A bone").build();
+
+    @Test
+    public void test_questionOrAnswerWithTerm_returnsTrue() {
+        RankedQueryPredicate predicate = new RankedQueryPredicate(Arrays.asList("NERVE", "bone"), 10);
+        assertTrue(predicate.test(nerveInAnswer));
+        assertTrue(predicate.test(nerveInQuestion));
+        assertTrue(predicate.test(unrelated));
+        assertTrue(new RankedQueryPredicate(Collections.singletonList("nerves"), 10).test(nerveInAnswer));
+        assertFalse(new RankedQueryPredicate(Collections.singletonList("nervous"), 10).test(nerveInAnswer));
+    }
+
+    @Test
+    public void rank_singleTerm_ordersByRelevance() {
+        SearchIndex index = new SearchIndex(Arrays.asList(nerveInAnswer, nerveInQuestion, nerveRepeated, unrelated));
+        RankedQueryPredicate predicate = new RankedQueryPredicate(Collections.singletonList("nerve"), 10);
+
+        assertEquals(Arrays.asList(nerveRepeated.getId(), nerveInQuestion.getId(), nerveInAnswer.getId()),
+                predicate.rank(index));
+    }
+
+    @Test
+    public void rank_moreMatchesThanLimit_keepsTheMostRelevant() {
+        List<QAndA> qAndAs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            qAndAs.add(new QAndABuilder().withQuestion("Question " + i).withAnswer("Nerve number " + i).build());
+        }
+        qAndAs.add(nerveInQuestion);
+        SearchIndex index = new SearchIndex(qAndAs);
+        RankedQueryPredicate predicate = new RankedQueryPredicate(Collections.singletonList("nerve"), 3);
+
+        // equally relevant qAndAs are kept in the order they were added
+        assertEquals(Arrays.asList(nerveInQuestion.getId(), qAndAs.get(0).getId(), qAndAs.get(1).getId()),
+                predicate.rank(index));
+        assertEquals(Collections.emptyList(), new RankedQueryPredicate(Collections.singletonList("nerve"), 0)
+                .rank(index));
+    }
+
+    @Test
+    public void rank_withoutIndex_sameAsWithIndex() {
+        List<QAndA> qAndAs = Arrays.asList(nerveInAnswer, nerveInQuestion, nerveRepeated, unrelated);
+        SearchIndex index = new SearchIndex(qAndAs);
+        for (RankedQueryPredicate predicate : Arrays.asList(
+                new RankedQueryPredicate(Collections.singletonList("nerve"), 10),
+                new RankedQueryPredicate(Arrays.asList("phrenic", "femur"), 2),
+                new RankedQueryPredicate(Collections.singletonList("spleen"), 10))) {
+            assertEquals(predicate.rank(index), predicate.rank(qAndAs));
+        }
+    }
+
+    @Test
+    public void getCandidateIds_rankedIds_includeEveryMatch() {
+        List<QAndA> qAndAs = Arrays.asList(nerveInAnswer, nerveInQuestion, nerveRepeated, unrelated);
+        SearchIndex index = new SearchIndex(qAndAs);
+        RankedQueryPredicate predicate = new RankedQueryPredicate(Arrays.asList("phrenic", "femur"), 10);
+
+        Set<Long> matches = qAndAs.stream().filter(predicate).map(QAndA::getId).collect(Collectors.toSet());
+        assertEquals(Optional.of(matches), predicate.getCandidateIds(index));
+        assertEquals(matches, predicate.rank(index).stream().collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void equals() {
+        RankedQueryPredicate predicate = new RankedQueryPredicate(Arrays.asList("nerve", "root"), 10);
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new RankedQueryPredicate(Arrays.asList("nerve", "root"), 10)));
+
+        // different keywords -> returns false
+        assertFalse(predicate.equals(new RankedQueryPredicate(Arrays.asList("nerve"), 10)));
+
+        // different limit -> returns false
+        assertFalse(predicate.equals(new RankedQueryPredicate(Arrays.asList("nerve", "root"), 5)));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.search.SearchIndex.Field;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex(Arrays.asList(QUESTION1, QUESTION2, QUESTION3));
+
+    @Test
+    public void getPostings_termInField_returnsContainingIds() {
+        assertEquals(new HashSet<>(Arrays.asList(QUESTION1.getId(), QUESTION2.getId(), QUESTION3.getId())),
+                index.getPostings(Field.QUESTION, "question"));
+        assertEquals(Collections.singleton(QUESTION2.getId()), index.getPostings(Field.ANSWER, "2"));
+        assertTrue(index.getPostings(Field.ANSWER, "question").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedQAndA_removesPostings() {
+        index.remove(QUESTION2);
+        assertTrue(index.getPostings(Field.QUESTION, "two").isEmpty());
+        assertFalse(index.getPostings(Field.QUESTION, "question").contains(QUESTION2.getId()));
+    }
+
+    @Test
+    public void add_qAndA_addsPostings() {
+        QAndA qAndA = new QAndABuilder().withQuestion("Where is the femur?").withAnswer("In the thigh").build();
+        index.getPostings(Field.ANSWER, "2");
+        index.add(qAndA);
+        assertEquals(Collections.singleton(qAndA.getId()), index.getPostings(Field.QUESTION, "femur"));
+        assertEquals(Collections.singleton(qAndA.getId()), index.getPostings(Field.ANSWER, "thigh"));
+    }
+
+    @Test
+    public void add_qAndABeforeAnswersIndexed_answerIndexedFromOwnersList() {
+        List<QAndA> qAndAs = new ArrayList<>(Arrays.asList(QUESTION1, QUESTION2));
+        SearchIndex liveIndex = new SearchIndex(qAndAs);
+        QAndA qAndA = new QAndABuilder().withQuestion("Where is the femur?").withAnswer("In the thigh").build();
+        qAndAs.add(qAndA);
+        liveIndex.add(qAndA);
+        qAndAs.remove(QUESTION2);
+        liveIndex.remove(QUESTION2);
+
+        assertFalse(liveIndex.isAnswerIndexed());
+        assertEquals(Collections.singleton(qAndA.getId()), liveIndex.getPostings(Field.ANSWER, "thigh"));
+        assertTrue(liveIndex.getPostings(Field.ANSWER, "2").isEmpty());
+        assertTrue(liveIndex.isAnswerIndexed());
+    }
+
+    @Test
+    public void getPostings_tagsAndQuestionsOnly_answersNotIndexed() {
+        index.getTagPostings("dna");
+        index.getUntagged();
+        index.getPostings(Field.QUESTION, "question");
+        index.findCandidates(Collections.singletonList(Arrays.asList("one")), Field.QUESTION);
+        assertFalse(index.isAnswerIndexed());
+
+        index.findSimilarTerms("answr", 1);
+        assertTrue(index.isAnswerIndexed());
+    }
+
+    @Test
+    public void findCandidates_multiTermPhrase_returnsQAndAsContainingAllTerms() {
+        QAndA qAndA = new QAndABuilder().withQuestion("Left ventricle").withAnswer("Pumps blood").build();
+        index.add(qAndA);
+        assertEquals(Optional.of(Collections.singleton(qAndA.getId())),
+                index.findCandidates(Collections.singletonList(Arrays.asList("ventricle", "left")), Field.QUESTION));
+        assertEquals(Optional.of(Collections.emptySet()),
+                index.findCandidates(Collections.singletonList(Arrays.asList("left", "blood")), Field.QUESTION));
+    }
+
+    @Test
+    public void findCandidates_multipleFieldsAndPhrases_returnsUnion() {
+        Set<Long> expected = new HashSet<>(Arrays.asList(QUESTION1.getId(), QUESTION3.getId()));
+        List<List<String>> phrases = Arrays.asList(Arrays.asList("one"), Arrays.asList("3"));
+        assertEquals(Optional.of(expected), index.findCandidates(phrases, Field.QUESTION, Field.ANSWER));
+    }
+
+    @Test
+    public void findCandidates_phraseWithoutTerms_returnsEmptyOptional() {
+        assertEquals(Optional.empty(),
+                index.findCandidates(Arrays.asList(Arrays.asList("one"), Collections.emptyList()), Field.QUESTION));
+    }
+
+    @Test
+    public void getTagPostings_anyCase_returnsTaggedIds() {
+        assertEquals(Collections.singleton(QUESTION1.getId()), index.getTagPostings("dna"));
+        assertEquals(Collections.singleton(QUESTION2.getId()), index.getTagPostings("IMMUNESYSTEM"));
+        assertTrue(index.getTagPostings("unknown").isEmpty());
+    }
+
+    @Test
+    public void getUntagged_afterAddAndRemove_tracksUntaggedIds() {
+        QAndA untagged = new QAndABuilder().withQuestion("Untagged").withTags().build();
+        index.add(untagged);
+        assertTrue(index.getUntagged().contains(untagged.getId()));
+        assertFalse(index.getUntagged().contains(QUESTION1.getId()));
+
+        index.remove(untagged);
+        index.remove(QUESTION1);
+        assertFalse(index.getUntagged().contains(untagged.getId()));
+        assertTrue(index.getTagPostings("dna").isEmpty());
+    }
+
+    @Test
+    public void getPositions_repeatedTerm_returnsEveryPosition() {
+        QAndA qAndA = new QAndABuilder().withQuestion("Nerve roots of the phrenic nerve")
+                .withAnswer("C3 to C5").build();
+        index.add(qAndA);
+        assertArrayEquals(new int[] {0, 5}, index.getPositions(Field.QUESTION, "nerve").get(qAndA.getId()));
+        assertEquals(6, index.getLength(Field.QUESTION, qAndA.getId()));
+        assertEquals("3.0", String.valueOf(index.getAverageLength(Field.QUESTION)));
+        assertEquals(4, index.size());
+
+        index.remove(qAndA);
+        assertTrue(index.getPositions(Field.QUESTION, "nerve").isEmpty());
+        assertEquals("2.0", String.valueOf(index.getAverageLength(Field.QUESTION)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void findPhrase_termsInOrder_returnsStartsOfPhrase() {
+        QAndA qAndA = new QAndABuilder().withQuestion("Left ventricle or right ventricle? The left ventricles!")
+                .withAnswer("Ventricle left").build();
+        index.add(qAndA);
+
+        assertArrayEquals(new int[] {0, 6}, index.findPhrase(Field.QUESTION, Arrays.asList("left", "ventricle"))
+                .get(qAndA.getId()));
+        assertArrayEquals(new int[] {3}, index.findPhrase(Field.QUESTION, Arrays.asList("right")).get(qAndA.getId()));
+        assertFalse(index.findPhrase(Field.ANSWER, Arrays.asList("left", "ventricle")).containsKey(qAndA.getId()));
+        assertTrue(index.findPhrase(Field.QUESTION, Arrays.asList("ventricle", "right")).isEmpty());
+        assertTrue(index.findPhrase(Field.QUESTION, Collections.emptyList()).isEmpty());
+    }
+}
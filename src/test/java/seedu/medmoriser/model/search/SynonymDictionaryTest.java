@@ -0,0 +1,24 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class SynonymDictionaryTest {
+
+    @Test
+    public void parse_commentsBlankAndSinglePhraseLines_ignoresThem() {
+        SynonymDictionary dictionary = SynonymDictionary.parse(Arrays.asList("# cardiology", "",
+                " MI ,myocardial infarction,, ", "HTN", "  # DM, diabetes mellitus", "PE, pulmonary embolism"));
+        assertEquals(new SynonymDictionary(Arrays.asList(Arrays.asList("MI", "myocardial infarction"),
+                Arrays.asList("PE", "pulmonary embolism"))), dictionary);
+    }
+
+    @Test
+    public void parse_noLines_returnsEmptyDictionary() {
+        assertEquals(SynonymDictionary.EMPTY, SynonymDictionary.parse(Collections.emptyList()));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+public class TermDictionaryTest {
+
+    private final TermDictionary dictionary = new TermDictionary();
+
+    @Test
+    public void isWithinEditDistance_variousEdits() {
+        assertTrue(TermDictionary.isWithinEditDistance("pheochromocytoma", "pheochromocytoma", 0));
+        assertTrue(TermDictionary.isWithinEditDistance("pheochromocytoma", "phaeochromocytoma", 1));
+        assertTrue(TermDictionary.isWithinEditDistance("acetylcholinesterase", "acetylcolinesteras", 2));
+        assertFalse(TermDictionary.isWithinEditDistance("acetylcholinesterase", "acetylcolinesteras", 1));
+        assertTrue(TermDictionary.isWithinEditDistance("kitten", "sitting", 3));
+        assertFalse(TermDictionary.isWithinEditDistance("kitten", "sitting", 2));
+        assertTrue(TermDictionary.isWithinEditDistance("", "ab", 2));
+        assertFalse(TermDictionary.isWithinEditDistance("abcdef", "badcfe", 2));
+    }
+
+    @Test
+    public void findSimilar_misspeltTerm_returnsTermsWithinEdits() {
+        Arrays.asList("pheochromocytoma", "chromocyte", "phenytoin", "cat", "cot", "cart").forEach(dictionary::add);
+
+        assertEquals(Collections.singleton("pheochromocytoma"), dictionary.findSimilar("pheochromocytona", 2));
+        assertEquals(new HashSet<>(Arrays.asList("cat", "cot", "cart")), dictionary.findSimilar("cat", 1));
+        assertEquals(Collections.singleton("cat"), dictionary.findSimilar("cat", 0));
+        assertTrue(dictionary.findSimilar("adrenaline", 2).isEmpty());
+    }
+
+    @Test
+    public void remove_termAddedTwice_keptUntilRemovedTwice() {
+        dictionary.add("murmur");
+        dictionary.add("murmur");
+        dictionary.remove("murmur");
+        assertEquals(Collections.singleton("murmur"), dictionary.findSimilar("murmer", 1));
+
+        dictionary.remove("murmur");
+        assertTrue(dictionary.findSimilar("murmer", 1).isEmpty());
+        assertEquals(0, dictionary.size());
+    }
+}
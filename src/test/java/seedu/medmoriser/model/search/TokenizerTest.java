@@ -0,0 +1,34 @@
+package seedu.medmoriser.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenizerTest {
+
+    @Test
+    public void tokenize_emptyOrPunctuationOnly_returnsNoTerms() {
+        assertEquals(Collections.emptyList(), Tokenizer.tokenize(""));
+        assertEquals(Collections.emptyList(), Tokenizer.tokenize(" ?!, "));
+    }
+
+    @Test
+    public void tokenize_mixedCaseAndPunctuation_returnsLowerCasedWordRuns() {
+        assertEquals(Arrays.asList("what", "is", "the", "largest", "organ"),
+                Tokenizer.tokenize("What is the largest ORGAN?"));
+        assertEquals(Arrays.asList("10", "000", "t_cell", "x", "ray"), Tokenizer.tokenize("10,000 T_cell X-ray"));
+    }
+
+    @Test
+    public void tokenize_repeatedTerms_keepsRepeats() {
+        assertEquals(Arrays.asList("a", "b", "a"), Tokenizer.tokenize("a b a"));
+    }
+
+    @Test
+    public void tokenize_nonAsciiLetters_keepsThemInTerms() {
+        assertEquals(Arrays.asList("caf\u00e9", "na\u00efve"), Tokenizer.tokenize("Caf\u00e9 na\u00efve"));
+    }
+}
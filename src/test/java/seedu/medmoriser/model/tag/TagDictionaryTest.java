@@ -0,0 +1,60 @@
+package seedu.medmoriser.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.medmoriser.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void idOf_equalTags_returnsSameIdAndCanonicalTag() {
+        Tag first = new Tag("TagDictionaryTest anatomy");
+        Tag second = new Tag("TagDictionaryTest anatomy");
+        assertEquals(TagDictionary.idOf(first), TagDictionary.idOf(second));
+        assertSame(first, TagDictionary.tagOf(TagDictionary.idOf(second)));
+        assertNotEquals(TagDictionary.idOf(first), TagDictionary.idOf(new Tag("TagDictionaryTest Anatomy")));
+    }
+
+    @Test
+    public void findId_unknownTag_returnsMinusOne() {
+        assertEquals(-1, TagDictionary.findId(new Tag("TagDictionaryTest never interned")));
+    }
+
+    @Test
+    public void toSortedIds_duplicateTags_returnsSortedDistinctIds() {
+        Tag cells = new Tag("TagDictionaryTest cells");
+        Tag blood = new Tag("TagDictionaryTest blood");
+        int cellsId = TagDictionary.idOf(cells);
+        int bloodId = TagDictionary.idOf(blood);
+
+        int[] ids = TagDictionary.toSortedIds(Arrays.asList(blood, cells, new Tag("TagDictionaryTest blood")));
+        assertArrayEquals(new int[] {Math.min(cellsId, bloodId), Math.max(cellsId, bloodId)}, ids);
+        assertArrayEquals(new int[0], TagDictionary.toSortedIds(Collections.emptySet()));
+    }
+
+    @Test
+    public void asSet_ids_behavesAsUnmodifiableSet() {
+        Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("TagDictionaryTest a"), new Tag("TagDictionaryTest b")));
+        Set<Tag> view = TagDictionary.asSet(TagDictionary.toSortedIds(tags));
+
+        assertEquals(tags, view);
+        assertEquals(view, tags);
+        assertEquals(tags.hashCode(), view.hashCode());
+        assertTrue(view.contains(new Tag("TagDictionaryTest a")));
+        assertFalse(view.contains(new Tag("TagDictionaryTest c")));
+        assertFalse(view.contains("TagDictionaryTest a"));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(new Tag("TagDictionaryTest a")));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Tag("TagDictionaryTest c")));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.medmoriser.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.Model;
+import seedu.medmoriser.model.ModelManager;
+import seedu.medmoriser.model.UserPrefs;
+import seedu.medmoriser.model.qanda.Answer;
+import seedu.medmoriser.model.qanda.AnswerContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.AnswerHandle;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.Question;
+import seedu.medmoriser.model.qanda.QuestionContainsKeywordsPredicate;
+import seedu.medmoriser.model.qanda.TagContainsKeywordsPredicate;
+
+public class AnswerFileTest {
+
+    private static final String CONTENT = "xxThe heartyyThe kidneys";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void load_duringAndAfterLoading_readsAnswers() throws Exception {
+        Path filePath = testFolder.resolve("answers");
+        Files.write(filePath, CONTENT.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer loadingData = ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        AnswerFile answerFile = new AnswerFile(FileChannel.open(filePath, StandardOpenOption.READ), loadingData, 1);
+        AnswerHandle heart = answerFile.handleAt(2, 9);
+        AnswerHandle kidneys = answerFile.handleAt(13, 11);
+        assertEquals(new Answer("The heart"), heart.load());
+        assertSame(heart.load(), heart.load());
+
+        // later answers come from the file, and the cache only holds one
+        answerFile.finishLoading();
+        assertEquals(new Answer("The kidneys"), kidneys.load());
+        assertEquals(new Answer("The heart"), heart.load());
+        assertEquals("1", String.valueOf(answerFile.getCachedCount()));
+    }
+
+    @Test
+    public void equals_qAndAsWithHandlesToSameAnswer_noAnswerRead() throws Exception {
+        Path filePath = testFolder.resolve("answers");
+        Files.write(filePath, CONTENT.getBytes(StandardCharsets.UTF_8));
+        AnswerFile answerFile = new AnswerFile(FileChannel.open(filePath, StandardOpenOption.READ), null, 4);
+        Question question = new Question("What pumps blood?");
+
+        QAndA qAndA = new QAndA(1, question, answerFile.handleAt(2, 9), Collections.emptySet());
+        QAndA copy = new QAndA(1, question, answerFile.handleAt(2, 9), Collections.emptySet());
+        assertEquals(qAndA, copy);
+        assertEquals(qAndA.hashCode(), copy.hashCode());
+        assertEquals(0, answerFile.getCachedCount());
+
+        // different handles are compared by the answers they load
+        assertNotEquals(qAndA, new QAndA(1, question, answerFile.handleAt(13, 11), Collections.emptySet()));
+        assertEquals(qAndA, new QAndA(1, question, new Answer("The heart"), Collections.emptySet()));
+    }
+
+    @Test
+    public void load_tagAndQuestionSearches_noAnswerRead() throws Exception {
+        Path filePath = testFolder.resolve("medmoriser.bin");
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(filePath));
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            AnswerFile answerFile = new AnswerFile(channel, data, AnswerFile.DEFAULT_CACHE_CAPACITY);
+            Medmoriser medmoriser = BinarySerializableMedmoriser.readModelType(data, answerFile);
+            answerFile.finishLoading();
+            Model model = new ModelManager(medmoriser, new UserPrefs());
+
+            model.updateFilteredQAndAList(new TagContainsKeywordsPredicate(Collections.singletonList("dna")));
+            model.updateFilteredQAndAList(new QuestionContainsKeywordsPredicate(Collections.singletonList("one")));
+            assertEquals(0, answerFile.getCachedCount());
+
+            model.updateFilteredQAndAList(new AnswerContainsKeywordsPredicate(Collections.singletonList("answer")));
+            assertTrue(answerFile.getCachedCount() > 0);
+        }
+    }
+
+}
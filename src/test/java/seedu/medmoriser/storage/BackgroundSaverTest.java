@@ -0,0 +1,161 @@
+package seedu.medmoriser.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
+import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+
+public class BackgroundSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void requestSave_flush_writesToStorage() throws Exception {
+        JsonMedmoriserStorage storage = new JsonMedmoriserStorage(testFolder.resolve("saved.json"));
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+
+        saver.requestSave(medmoriser);
+        saver.flush();
+        assertEquals(medmoriser, new Medmoriser(storage.readMedmoriser().get()));
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_medmoriserChangedAfterRequest_savesSnapshot() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder.resolve("snapshot.json"));
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        Medmoriser medmoriser = new Medmoriser();
+        medmoriser.addQAndA(QUESTION1);
+
+        storage.blockWrites();
+        saver.requestSave(medmoriser);
+        medmoriser.addQAndA(QUESTION2);
+        storage.unblockWrites();
+        saver.flush();
+
+        assertEquals(List.of(1), storage.savedSizes);
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_burstWhileWriting_coalescesIntoOneWrite() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder.resolve("burst.json"));
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        Medmoriser medmoriser = new Medmoriser();
+
+        storage.blockWrites();
+        saver.requestSave(medmoriser);
+        assertTrue(storage.writeStarted.await(5, TimeUnit.SECONDS));
+
+        // the first write is in progress, so these wait and replace one another
+        medmoriser.addQAndA(QUESTION1);
+        saver.requestSave(medmoriser);
+        medmoriser.addQAndA(QUESTION2);
+        saver.requestSave(medmoriser);
+        storage.unblockWrites();
+        saver.flush();
+
+        assertEquals(List.of(0, 2), storage.savedSizes);
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_reportsFailure() {
+        JsonMedmoriserStorage storage = new JsonMedmoriserStorage(testFolder.resolve("failing.json")) {
+            @Override
+            public void saveMedmoriser(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        AtomicReference<Exception> reported = new AtomicReference<>();
+        saver.setFailureHandler(reported::set);
+
+        saver.requestSave(new Medmoriser());
+        saver.flush();
+        assertSame(DUMMY_IO_EXCEPTION, reported.get());
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_storageThrowsRuntimeException_reportsFailureAndKeepsSaving() throws Exception {
+        UncheckedIOException answerUnreadable = new UncheckedIOException(DUMMY_IO_EXCEPTION);
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder.resolve("unreadable.json")) {
+            private boolean hasFailed = false;
+
+            @Override
+            public void saveMedmoriser(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw answerUnreadable;
+                }
+                super.saveMedmoriser(medmoriser, filePath);
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        AtomicReference<Exception> reported = new AtomicReference<>();
+        saver.setFailureHandler(reported::set);
+
+        saver.requestSave(new Medmoriser());
+        saver.flush();
+        assertSame(answerUnreadable, reported.get());
+
+        saver.requestSave(getTypicalMedmoriser());
+        saver.flush();
+        assertEquals(List.of(getTypicalMedmoriser().getQAndAList().size()), storage.savedSizes);
+        saver.shutdown();
+    }
+
+    /**
+     * A stub class that records the number of qAndAs in each saved medmoriser, and can hold writes back.
+     */
+    private static class RecordingStorageStub extends JsonMedmoriserStorage {
+        private final List<Integer> savedSizes = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private CountDownLatch writesAllowed = new CountDownLatch(0);
+
+        private RecordingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        private void blockWrites() {
+            writesAllowed = new CountDownLatch(1);
+        }
+
+        private void unblockWrites() {
+            writesAllowed.countDown();
+        }
+
+        @Override
+        public void saveMedmoriser(ReadOnlyMedmoriser medmoriser, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writesAllowed.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            savedSizes.add(medmoriser.getQAndAList().size());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.medmoriser.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.medmoriser.testutil.Assert.assertThrows;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION8;
+import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.medmoriser.commons.exceptions.DataConversionException;
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class BinaryMedmoriserStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMedmoriser_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryMedmoriserStorage(testFolder.resolve("missing.bin")).readMedmoriser().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMedmoriser_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("medmoriser.bin");
+        BinaryMedmoriserStorage storage = new BinaryMedmoriserStorage(filePath);
+        Medmoriser original = getTypicalMedmoriser();
+
+        storage.saveMedmoriser(original);
+        ReadOnlyMedmoriser readBack = storage.readMedmoriser().get();
+        assertEquals(original, new Medmoriser(readBack));
+        assertEquals(original.getQAndAList().get(3).getId(), readBack.getQAndAList().get(3).getId());
+
+        original.addQAndA(QUESTION8);
+        storage.saveMedmoriser(original);
+        assertEquals(original, new Medmoriser(storage.readMedmoriser().get()));
+    }
+
+    @Test
+    public void readMedmoriser_nonAsciiText_readsBack() throws Exception {
+        Path filePath = testFolder.resolve("unicode.bin");
+        Medmoriser original = new Medmoriser();
+        original.addQAndA(new QAndABuilder().withQuestion("Na\u00efve B cells \u2192 plasma cells?")
+                .withAnswer("\u03b2-lactam antibiotics").withTags("Immunology").build());
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(original);
+        assertEquals(original, new Medmoriser(new BinaryMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void readMedmoriser_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("actuallyJson.bin");
+        new JsonMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+        assertThrows(DataConversionException.class, () -> new BinaryMedmoriserStorage(filePath).readMedmoriser());
+    }
+
+    @Test
+    public void readMedmoriser_corruptedByte_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.bin");
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+        byte[] data = Files.readAllBytes(filePath);
+        data[data.length / 2] ^= 0x20;
+        Files.write(filePath, data);
+        assertThrows(DataConversionException.class, () -> new BinaryMedmoriserStorage(filePath).readMedmoriser());
+    }
+
+    @Test
+    public void readMedmoriser_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("future.bin");
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+        byte[] data = Files.readAllBytes(filePath);
+        data[BinarySerializableMedmoriser.MAGIC.length] = BinarySerializableMedmoriser.VERSION + 1;
+        Files.write(filePath, data);
+        assertThrows(DataConversionException.class, () -> new BinaryMedmoriserStorage(filePath).readMedmoriser());
+    }
+
+    @Test
+    public void readMedmoriser_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 5));
+        assertThrows(DataConversionException.class, () -> new BinaryMedmoriserStorage(filePath).readMedmoriser());
+    }
+
+    @Test
+    public void readMedmoriser_newerImportFile_importsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("medmoriser.json");
+        Path filePath = BinaryMedmoriserStorage.getBinaryFilePath(jsonFilePath);
+        Medmoriser older = getTypicalMedmoriser();
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(older);
+        Medmoriser newer = getTypicalMedmoriser();
+        newer.addQAndA(QUESTION8);
+        new JsonMedmoriserStorage(jsonFilePath).saveMedmoriser(newer);
+
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(1_000_000));
+        BinaryMedmoriserStorage storage = new BinaryMedmoriserStorage(filePath, jsonFilePath);
+        assertEquals(newer, new Medmoriser(storage.readMedmoriser().get()));
+
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        assertEquals(older, new Medmoriser(storage.readMedmoriser().get()));
+    }
+
+    @Test
+    public void readMedmoriser_noBinaryFileYet_importsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("first.json");
+        Medmoriser original = getTypicalMedmoriser();
+        new JsonMedmoriserStorage(jsonFilePath).saveMedmoriser(original);
+
+        BinaryMedmoriserStorage storage =
+                new BinaryMedmoriserStorage(BinaryMedmoriserStorage.getBinaryFilePath(jsonFilePath), jsonFilePath);
+        assertEquals(original, new Medmoriser(storage.readMedmoriser().get()));
+    }
+
+    @Test
+    public void readMedmoriser_lazyAnswers_sameQAndAs() throws Exception {
+        Path jsonFilePath = testFolder.resolve("lazy.json");
+        Path filePath = BinaryMedmoriserStorage.getBinaryFilePath(jsonFilePath);
+        Medmoriser original = getTypicalMedmoriser();
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(original);
+
+        ReadOnlyMedmoriser readBack = new BinaryMedmoriserStorage(filePath, jsonFilePath, true).readMedmoriser().get();
+        assertEquals(original, new Medmoriser(readBack));
+        assertEquals(original.getQAndAList().get(1).getAnswer(), readBack.getQAndAList().get(1).getAnswer());
+    }
+
+    @Test
+    public void readMedmoriser_lazyAnswersThenFileSaved_answersStillReadable() throws Exception {
+        Path jsonFilePath = testFolder.resolve("replaced.json");
+        Path filePath = BinaryMedmoriserStorage.getBinaryFilePath(jsonFilePath);
+        Medmoriser original = getTypicalMedmoriser();
+        BinaryMedmoriserStorage storage = new BinaryMedmoriserStorage(filePath, jsonFilePath, true);
+        storage.saveMedmoriser(original);
+
+        ReadOnlyMedmoriser readBack = storage.readMedmoriser().get();
+        Medmoriser other = new Medmoriser();
+        other.addQAndA(QUESTION8);
+        storage.saveMedmoriser(other);
+        storage.saveMedmoriser(other);
+
+        assertEquals(original, new Medmoriser(readBack));
+        storage.saveMedmoriser(readBack);
+        assertEquals(original, new Medmoriser(storage.readMedmoriser().get()));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "medmoriser.bin"),
+                BinaryMedmoriserStorage.getBinaryFilePath(Paths.get("data", "medmoriser.json")));
+        assertEquals(Paths.get("data", "bank.dat.bin"),
+                BinaryMedmoriserStorage.getBinaryFilePath(Paths.get("data", "bank.dat")));
+    }
+
+    @Test
+    public void saveMedmoriser_largeMedmoriser_smallerThanJson() throws Exception {
+        Medmoriser original = new Medmoriser();
+        for (int i = 0; i < 50_000; i++) {
+            original.addQAndA(new QAndABuilder().withQuestion("What does organ " + i + " do?")
+                    .withAnswer("It filters the blood and regulates fluid balance " + i)
+                    .withTags("System" + (i % 40), "Year" + (i % 5)).build());
+        }
+        Path jsonFilePath = testFolder.resolve("large.json");
+        Path binaryFilePath = testFolder.resolve("large.bin");
+        JsonMedmoriserStorage jsonStorage = new JsonMedmoriserStorage(jsonFilePath);
+        BinaryMedmoriserStorage binaryStorage = new BinaryMedmoriserStorage(binaryFilePath);
+
+        jsonStorage.saveMedmoriser(original);
+        binaryStorage.saveMedmoriser(original);
+
+        long jsonSize = Files.size(jsonFilePath);
+        long binarySize = Files.size(binaryFilePath);
+        assertTrue(binarySize * 2 <= jsonSize, "binary: " + binarySize + " bytes, json: " + jsonSize);
+        assertEquals(original, new Medmoriser(binaryStorage.readMedmoriser().get()));
+    }
+
+}
@@ -0,0 +1,249 @@
+package seedu.medmoriser.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.medmoriser.testutil.Assert.assertThrows;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION8;
+import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION9;
+import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.medmoriser.commons.exceptions.DataConversionException;
+import seedu.medmoriser.model.ChangeLog;
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+import seedu.medmoriser.model.qanda.Answer;
+import seedu.medmoriser.model.qanda.QAndA;
+
+public class JournalMedmoriserStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMedmoriser_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalMedmoriserStorage(testFolder.resolve("missing.json")).readMedmoriser().isPresent());
+    }
+
+    @Test
+    public void saveMedmoriser_nullMedmoriser_throwsNullPointerException() {
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(testFolder.resolve("null.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveMedmoriser(null));
+    }
+
+    @Test
+    public void saveMedmoriser_changesAfterFirstSave_appendsToJournalAndReadsBack() throws Exception {
+        Path filePath = testFolder.resolve("journalled.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+        String snapshot = Files.readString(filePath);
+
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+        medmoriser.removeQAndA(QUESTION1);
+        storage.saveMedmoriser(medmoriser);
+        QAndA edited = edit(medmoriser.getQAndAList().get(0));
+        medmoriser.setQAndA(medmoriser.getQAndAList().get(0), edited);
+        storage.saveMedmoriser(medmoriser);
+
+        // the snapshot is untouched, and each save added one journal line
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, journalLines(filePath).size());
+        assertEquals(medmoriser, new Medmoriser(new JournalMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void saveMedmoriser_singleChange_journalledWithoutReadingQAndAList() throws Exception {
+        Path filePath = testFolder.resolve("unread.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(withoutQAndAList(medmoriser));
+        medmoriser.setQAndA(QUESTION8, edit(QUESTION8));
+        medmoriser.removeQAndA(QUESTION1);
+        storage.saveMedmoriser(withoutQAndAList(medmoriser));
+
+        assertEquals(2, journalLines(filePath).size());
+        assertEquals(medmoriser, new Medmoriser(new JournalMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void saveMedmoriser_qAndAReplacedByAnotherId_compacts() throws Exception {
+        Path filePath = testFolder.resolve("replaced.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+
+        medmoriser.setQAndA(QUESTION1, QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+        assertFalse(Files.exists(JournalMedmoriserStorage.getJournalFilePath(filePath)));
+        assertEquals(medmoriser, new Medmoriser(new JournalMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void saveMedmoriser_nothingChanged_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("unchanged.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+        storage.saveMedmoriser(medmoriser);
+        assertFalse(Files.exists(JournalMedmoriserStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveMedmoriser_tooManyJournalEntries_compacts() throws Exception {
+        Path filePath = testFolder.resolve("compacted.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath, false, 1, Long.MAX_VALUE);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+        assertEquals(1, journalLines(filePath).size());
+
+        medmoriser.addQAndA(QUESTION9);
+        storage.saveMedmoriser(medmoriser);
+        assertFalse(Files.exists(JournalMedmoriserStorage.getJournalFilePath(filePath)));
+        assertEquals(medmoriser, new Medmoriser(new JsonMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void saveMedmoriser_journalTooLarge_compacts() throws Exception {
+        Path filePath = testFolder.resolve("large.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath, false, Integer.MAX_VALUE, 1);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+        medmoriser.addQAndA(QUESTION9);
+        storage.saveMedmoriser(medmoriser);
+        assertFalse(Files.exists(JournalMedmoriserStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveMedmoriser_afterRead_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("reopened.json");
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        new JournalMedmoriserStorage(filePath).saveMedmoriser(medmoriser);
+
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser read = new Medmoriser(storage.readMedmoriser().get());
+        read.addQAndA(QUESTION8);
+        storage.saveMedmoriser(read);
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(read, new Medmoriser(new JournalMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void readMedmoriser_journalOfOlderSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("stale.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+        List<String> staleJournal = journalLines(filePath);
+
+        // a new snapshot replaces the old one, but the old journal survives, as after a crash during compaction
+        Medmoriser original = getTypicalMedmoriser();
+        new JournalMedmoriserStorage(filePath).saveMedmoriser(original);
+        Files.write(JournalMedmoriserStorage.getJournalFilePath(filePath), staleJournal);
+
+        assertEquals(original, new Medmoriser(new JournalMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void readMedmoriser_incompleteLastJournalLine_ignored() throws Exception {
+        Path filePath = testFolder.resolve("torn.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+        Path journalFilePath = JournalMedmoriserStorage.getJournalFilePath(filePath);
+        Files.write(journalFilePath, "{\"journalId\":\"".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournalMedmoriserStorage reopened = new JournalMedmoriserStorage(filePath);
+        Medmoriser read = new Medmoriser(reopened.readMedmoriser().get());
+        assertEquals(medmoriser, read);
+
+        // the next save starts afresh rather than appending after the partial line
+        read.addQAndA(QUESTION9);
+        reopened.saveMedmoriser(read);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(read, new Medmoriser(new JournalMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    @Test
+    public void readMedmoriser_invalidJournalLineBeforeLast_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("corrupt.json");
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = getTypicalMedmoriser();
+        storage.saveMedmoriser(medmoriser);
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+        Path journalFilePath = JournalMedmoriserStorage.getJournalFilePath(filePath);
+        List<String> lines = journalLines(filePath);
+        lines.add(0, "not json");
+        Files.write(journalFilePath, lines);
+
+        assertThrows(DataConversionException.class, () -> new JournalMedmoriserStorage(filePath).readMedmoriser());
+    }
+
+    @Test
+    public void saveMedmoriser_plainJsonSnapshot_compactsFirst() throws Exception {
+        Path filePath = testFolder.resolve("plain.json");
+        new JsonMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+
+        JournalMedmoriserStorage storage = new JournalMedmoriserStorage(filePath);
+        Medmoriser medmoriser = new Medmoriser(storage.readMedmoriser().get());
+        medmoriser.addQAndA(QUESTION8);
+        storage.saveMedmoriser(medmoriser);
+
+        assertFalse(Files.exists(JournalMedmoriserStorage.getJournalFilePath(filePath)));
+        assertTrue(Files.readString(filePath).contains("journalId"));
+        assertEquals(medmoriser, new Medmoriser(new JsonMedmoriserStorage(filePath).readMedmoriser().get()));
+    }
+
+    private static QAndA edit(QAndA qAndA) {
+        return new QAndA(qAndA.getId(), qAndA.getQuestion(), new Answer("An edited answer"), qAndA.getTags());
+    }
+
+    /**
+     * Returns a view of {@code medmoriser} that fails if its qAndAs are listed, as a compaction would.
+     */
+    private static ReadOnlyMedmoriser withoutQAndAList(Medmoriser medmoriser) {
+        return new ReadOnlyMedmoriser() {
+            @Override
+            public ObservableList<QAndA> getQAndAList() {
+                throw new AssertionError("Only the changed qAndAs should be saved");
+            }
+
+            @Override
+            public Optional<ChangeLog.Position> getChangeLogPosition() {
+                return medmoriser.getChangeLogPosition();
+            }
+        };
+    }
+
+    private static List<String> journalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalMedmoriserStorage.getJournalFilePath(filePath));
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.medmoriser.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.medmoriser.storage.JsonAdaptedQAndA.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION2;
@@ -32,6 +33,18 @@ public class JsonAdaptedQAndATest {
         assertEquals(QUESTION2, qAndA.toModelType());
     }
 
+    @Test
+    public void toModelType_validQAndADetails_keepsId() throws Exception {
+        JsonAdaptedQAndA qAndA = new JsonAdaptedQAndA(QUESTION2);
+        assertEquals(QUESTION2.getId(), qAndA.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_assignsFreshId() throws Exception {
+        JsonAdaptedQAndA qAndA = new JsonAdaptedQAndA(VALID_QUESTION, VALID_ANSWER, VALID_TAGS);
+        assertNotEquals(QUESTION2.getId(), qAndA.toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidQuestion_throwsIllegalValueException() {
         JsonAdaptedQAndA qAndA =
@@ -2,6 +2,7 @@ package seedu.medmoriser.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION1;
 import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION8;
@@ -9,15 +10,27 @@ import static seedu.medmoriser.testutil.TypicalQAndA.QUESTION9;
 import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
 import seedu.medmoriser.commons.exceptions.DataConversionException;
+import seedu.medmoriser.commons.exceptions.IllegalValueException;
+import seedu.medmoriser.commons.util.FileUtil;
+import seedu.medmoriser.commons.util.JsonUtil;
 import seedu.medmoriser.model.Medmoriser;
 import seedu.medmoriser.model.ReadOnlyMedmoriser;
+import seedu.medmoriser.model.qanda.Answer;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.Question;
+import seedu.medmoriser.testutil.QAndABuilder;
 
 public class JsonMedmoriserStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMedmoriserStorageTest");
@@ -55,12 +68,157 @@ public class JsonMedmoriserStorageTest {
         assertThrows(DataConversionException.class, () -> readMedmoriser("invalidQAndAMedmoriser.json"));
     }
 
+    @Test
+    public void readMedmoriser_severalInvalidQAndAs_reportsEachWithItsLine() {
+        String expectedMessage = String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDAS, 2) + "\n"
+                + String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDA_AT_LINE, 2, 5,
+                        Answer.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDA_AT_LINE, 4, 11,
+                        Question.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonSerializableMedmoriser.readModelType(
+                JsonUtil.createParser(TEST_DATA_FOLDER.resolve("severalInvalidQAndAsMedmoriser.json"))));
+    }
+
+    @Test
+    public void readMedmoriser_quarantiningBadQAndAs_loadsTheRest() throws Exception {
+        Path filePath = testFolder.resolve("bad.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndDuplicateQAndAsMedmoriser.json"), filePath);
+        JsonMedmoriserStorage storage = new JsonMedmoriserStorage(filePath, false, true);
+
+        ReadOnlyMedmoriser readBack = storage.readMedmoriser().get();
+        assertEquals(2, readBack.getQAndAList().size());
+        assertEquals("Another Valid QuestionSet", readBack.getQAndAList().get(1).getQuestion().question);
+        assertEquals(2, storage.getQuarantinedCount());
+
+        List<String> quarantined = Files.readAllLines(JsonMedmoriserStorage.getQuarantineFilePath(filePath));
+        assertEquals(2, quarantined.size());
+        assertTrue(quarantined.get(0).contains("\"line\":5"));
+        assertTrue(quarantined.get(1).contains(JsonSerializableMedmoriser.MESSAGE_DUPLICATE_QANDA));
+        assertTrue(quarantined.get(1).contains("Another Answer To The Same Question"));
+
+        // quarantined qAndAs are kept when the cleaned-up data is saved and read again
+        storage.saveMedmoriser(readBack);
+        storage.readMedmoriser();
+        assertEquals(0, storage.getQuarantinedCount());
+        assertEquals(2, Files.readAllLines(JsonMedmoriserStorage.getQuarantineFilePath(filePath)).size());
+    }
+
+    @Test
+    public void readMedmoriser_sameBadFileTwice_quarantinesEachQAndAOnce() throws Exception {
+        Path filePath = testFolder.resolve("bad.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndDuplicateQAndAsMedmoriser.json"), filePath);
+
+        new JsonMedmoriserStorage(filePath, false, true).readMedmoriser();
+        JsonMedmoriserStorage restartedStorage = new JsonMedmoriserStorage(filePath, false, true);
+        restartedStorage.readMedmoriser();
+        assertEquals(2, restartedStorage.getQuarantinedCount());
+        assertEquals(2, Files.readAllLines(JsonMedmoriserStorage.getQuarantineFilePath(filePath)).size());
+    }
+
     @Test
     public void readMedmoriser_invalidAndValidQAndAMedmoriser_throwDataConversionException() {
         assertThrows(DataConversionException.class, () ->
             readMedmoriser("invalidAndValidQAndAMedmoriser.json"));
     }
 
+    @Test
+    public void readMedmoriser_duplicateQAndAs_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readMedmoriser("duplicateQAndAMedmoriser.json"));
+    }
+
+    @Test
+    public void readMedmoriser_qAndAsNotArray_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readMedmoriser("qAndAsNotArrayMedmoriser.json"));
+    }
+
+    @Test
+    public void readMedmoriser_unknownFields_skipsThem() throws Exception {
+        ReadOnlyMedmoriser medmoriser = readMedmoriser("extraFieldsMedmoriser.json").get();
+        Medmoriser expected = new Medmoriser();
+        expected.addQAndA(new QAndABuilder().withQuestion("Question One").withAnswer("Answer 1").withTags("DNA")
+                .build());
+        expected.addQAndA(new QAndABuilder().withQuestion("Question Two").withAnswer("Answer 2").withTags().build());
+        assertEquals(expected, new Medmoriser(medmoriser));
+        assertEquals(7, medmoriser.getQAndAList().get(0).getId());
+    }
+
+    @Test
+    public void readMedmoriser_largeFile_matchesSavedMedmoriser() throws Exception {
+        Path filePath = testFolder.resolve("large.json");
+        Medmoriser original = new Medmoriser();
+        for (int i = 0; i < 20_000; i++) {
+            original.addQAndA(new QAndABuilder().withQuestion("Question " + i).withAnswer("Answer " + i)
+                    .withTags("Tag" + (i % 300)).build());
+        }
+        JsonMedmoriserStorage jsonMedmoriserStorage = new JsonMedmoriserStorage(filePath);
+        jsonMedmoriserStorage.saveMedmoriser(original);
+
+        ReadOnlyMedmoriser readBack = jsonMedmoriserStorage.readMedmoriser().get();
+        assertEquals(original, new Medmoriser(readBack));
+        assertEquals(original.getQAndAList().get(19_999).getId(), readBack.getQAndAList().get(19_999).getId());
+    }
+
+    @Test
+    public void saveMedmoriser_pretty_matchesJsonUtilFormat() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        Medmoriser original = getTypicalMedmoriser();
+        new JsonMedmoriserStorage(filePath).saveMedmoriser(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableMedmoriser(original)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveMedmoriser_compact_smallerAndReadsBack() throws Exception {
+        Path prettyFilePath = testFolder.resolve("pretty.json");
+        Path compactFilePath = testFolder.resolve("compact.json");
+        Medmoriser original = getTypicalMedmoriser();
+        new JsonMedmoriserStorage(prettyFilePath).saveMedmoriser(original);
+        JsonMedmoriserStorage compactStorage = new JsonMedmoriserStorage(compactFilePath, true);
+        compactStorage.saveMedmoriser(original);
+
+        String compact = FileUtil.readFromFile(compactFilePath);
+        assertFalse(compact.contains("\n"));
+        assertTrue(compact.length() < FileUtil.readFromFile(prettyFilePath).length());
+        assertEquals(original, new Medmoriser(compactStorage.readMedmoriser().get()));
+    }
+
+    @Test
+    public void saveMedmoriser_overwriteWithFewerQAndAs_truncatesFile() throws Exception {
+        Path filePath = testFolder.resolve("shrinking.json");
+        JsonMedmoriserStorage jsonMedmoriserStorage = new JsonMedmoriserStorage(filePath);
+        jsonMedmoriserStorage.saveMedmoriser(getTypicalMedmoriser());
+        jsonMedmoriserStorage.saveMedmoriser(new Medmoriser());
+
+        assertEquals(new Medmoriser(), new Medmoriser(jsonMedmoriserStorage.readMedmoriser().get()));
+    }
+
+    @Test
+    public void saveMedmoriser_existingFile_keepsPreviousDataAsRollback() throws Exception {
+        Path filePath = testFolder.resolve("rollback.json");
+        JsonMedmoriserStorage jsonMedmoriserStorage = new JsonMedmoriserStorage(filePath);
+        Medmoriser original = getTypicalMedmoriser();
+        jsonMedmoriserStorage.saveMedmoriser(original);
+        jsonMedmoriserStorage.saveMedmoriser(new Medmoriser());
+
+        Path rollbackFilePath = JsonMedmoriserStorage.getRollbackFilePath(filePath);
+        assertEquals(testFolder.resolve("rollback.json.bak"), rollbackFilePath);
+        assertEquals(original, new Medmoriser(jsonMedmoriserStorage.readMedmoriser(rollbackFilePath).get()));
+        assertEquals(new Medmoriser(), new Medmoriser(jsonMedmoriserStorage.readMedmoriser().get()));
+    }
+
+    @Test
+    public void saveMedmoriser_failsMidway_leavesPreviousDataIntact() throws Exception {
+        Path filePath = testFolder.resolve("interrupted.json");
+        JsonMedmoriserStorage jsonMedmoriserStorage = new JsonMedmoriserStorage(filePath);
+        Medmoriser original = getTypicalMedmoriser();
+        jsonMedmoriserStorage.saveMedmoriser(original);
+
+        // the second qAndA cannot be written, so the save fails after the first has been
+        ObservableList<QAndA> unwritable = FXCollections.observableArrayList(QUESTION1, null);
+        assertThrows(NullPointerException.class, () -> jsonMedmoriserStorage.saveMedmoriser(() -> unwritable));
+        assertEquals(original, new Medmoriser(jsonMedmoriserStorage.readMedmoriser().get()));
+    }
+
     @Test
     public void readAndSaveMedmoriser_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
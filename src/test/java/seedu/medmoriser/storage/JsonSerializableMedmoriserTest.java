@@ -1,16 +1,28 @@
 package seedu.medmoriser.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.medmoriser.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.medmoriser.commons.exceptions.IllegalValueException;
 import seedu.medmoriser.commons.util.JsonUtil;
 import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.qanda.Answer;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.model.qanda.Question;
 import seedu.medmoriser.testutil.TypicalQAndA;
 
 public class JsonSerializableMedmoriserTest {
@@ -23,6 +35,9 @@ public class JsonSerializableMedmoriserTest {
             .resolve("invalidQAndAMedmoriser.json");
     private static final Path DUPLICATE_QANDA_FILE = TEST_DATA_FOLDER
             .resolve("duplicateQAndAMedmoriser.json");
+    private static final Path MALFORMED_QANDAS_FILE = TEST_DATA_FOLDER
+            .resolve("malformedQAndAsMedmoriser.json");
+    private static final int LARGE_BANK_SIZE = 200_000;
 
     @Test
     public void toModelType_typicalQAndAsFile_success() throws Exception {
@@ -48,4 +63,95 @@ public class JsonSerializableMedmoriserTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_quarantiningMalformedQAndAs_loadsTheRest() throws Exception {
+        List<JsonAdaptedQuarantinedQAndA> quarantined = new ArrayList<>();
+        Medmoriser medmoriser;
+        try (JsonParser parser = JsonUtil.createParser(MALFORMED_QANDAS_FILE)) {
+            medmoriser = JsonSerializableMedmoriser.readModelType(parser, quarantined);
+        }
+
+        assertEquals(2, medmoriser.getQAndAList().size());
+        assertEquals("Another Valid QuestionSet", medmoriser.getQAndAList().get(1).getQuestion().question);
+        assertEquals(Arrays.asList(2, 3, 4), quarantined.stream().map(JsonAdaptedQuarantinedQAndA::getPosition)
+                .collect(Collectors.toList()));
+        assertTrue(quarantined.stream().allMatch(qAndA -> qAndA.getProblem().startsWith("Malformed qAndA: ")));
+    }
+
+    @Test
+    public void toModelType_severalInvalidQAndAs_reportsEach() {
+        List<JsonAdaptedQAndA> qAndAs = new ArrayList<>();
+        qAndAs.add(new JsonAdaptedQAndA("Question One", "Answer 1", new ArrayList<>()));
+        qAndAs.add(new JsonAdaptedQAndA("Question Two", null, new ArrayList<>()));
+        qAndAs.add(new JsonAdaptedQAndA("Question Three", "Answer 3", new ArrayList<>()));
+        qAndAs.add(new JsonAdaptedQAndA(" ", "Answer 4", new ArrayList<>()));
+        String expectedMessage = String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDAS, 2) + "\n"
+                + String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDA, 2,
+                        String.format(JsonAdaptedQAndA.MISSING_FIELD_MESSAGE_FORMAT, "Answer")) + "\n"
+                + String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDA, 4, Question.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, new JsonSerializableMedmoriser(qAndAs)::toModelType);
+    }
+
+    @Test
+    public void toModelType_largeBankWithInvalidQAndAs_reportsAllInOrder() {
+        List<JsonAdaptedQAndA> qAndAs = new ArrayList<>();
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDAS, 13));
+        for (int i = 0; i < 3 * JsonSerializableMedmoriser.BATCH_SIZE; i++) {
+            boolean isInvalid = i % 1000 == 0;
+            qAndAs.add(new JsonAdaptedQAndA("Question " + i, isInvalid ? "" : "Answer " + i, new ArrayList<>()));
+            if (isInvalid) {
+                expectedMessage.append("\n").append(String.format(JsonSerializableMedmoriser.MESSAGE_INVALID_QANDA,
+                        i + 1, Answer.MESSAGE_CONSTRAINTS));
+            }
+        }
+        assertThrows(IllegalValueException.class, expectedMessage.toString(),
+                new JsonSerializableMedmoriser(qAndAs)::toModelType);
+    }
+
+    @Test
+    public void toModelType_repeatedIds_assignsFreshIds() throws Exception {
+        List<JsonAdaptedQAndA> qAndAs = new ArrayList<>();
+        qAndAs.add(new JsonAdaptedQAndA(1L, "Question One", "Answer 1", new ArrayList<>()));
+        qAndAs.add(new JsonAdaptedQAndA(1L, "Question Two", "Answer 2", new ArrayList<>()));
+        Medmoriser medmoriser = new JsonSerializableMedmoriser(qAndAs).toModelType();
+        assertNotEquals(medmoriser.getQAndAList().get(0).getId(), medmoriser.getQAndAList().get(1).getId());
+    }
+
+    @Test
+    public void toMedmoriser_largeBank_comparesQuestionsLinearly() throws Exception {
+        CountingQuestion.comparisons = 0;
+        List<QAndA> qAndAs = new ArrayList<>();
+        for (int i = 0; i < LARGE_BANK_SIZE; i++) {
+            qAndAs.add(new QAndA(new CountingQuestion("Question " + i), new Answer("Answer " + i), new HashSet<>()));
+        }
+
+        // a quadratic duplicate check needs ~2 * 10^10 comparisons for this bank, and fails on the first extra one
+        assertEquals(LARGE_BANK_SIZE, JsonSerializableMedmoriser.toMedmoriser(qAndAs).getQAndAList().size());
+    }
+
+    /**
+     * A question that fails once more questions have been compared than there are in the large bank.
+     */
+    private static class CountingQuestion extends Question {
+        private static int comparisons = 0;
+
+        CountingQuestion(String question) {
+            super(question);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other != this && ++comparisons > LARGE_BANK_SIZE) {
+                throw new AssertionError("More than " + LARGE_BANK_SIZE + " question comparisons");
+            }
+            return super.equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+    }
+
 }
@@ -0,0 +1,111 @@
+package seedu.medmoriser.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.medmoriser.testutil.Assert.assertThrows;
+import static seedu.medmoriser.testutil.TypicalQAndA.getTypicalMedmoriser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.medmoriser.commons.exceptions.DataConversionException;
+import seedu.medmoriser.model.Medmoriser;
+import seedu.medmoriser.model.ReadOnlyDeck;
+import seedu.medmoriser.model.ReadOnlyMedmoriser;
+import seedu.medmoriser.model.qanda.QAndA;
+import seedu.medmoriser.testutil.QAndABuilder;
+
+public class MappedMedmoriserStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMedmoriser_missingFile_emptyReadOnlyDeck() throws Exception {
+        ReadOnlyMedmoriser deck = new MappedMedmoriserStorage(testFolder.resolve("missing.bin")).readMedmoriser().get();
+        assertTrue(deck instanceof ReadOnlyDeck);
+        assertTrue(deck.getQAndAList().isEmpty());
+    }
+
+    @Test
+    public void readMedmoriser_binaryFile_readOnlyDeckWithSameQAndAs() throws Exception {
+        Path filePath = testFolder.resolve("deck.bin");
+        Medmoriser original = getTypicalMedmoriser();
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(original);
+
+        ReadOnlyMedmoriser deck = new MappedMedmoriserStorage(filePath).readMedmoriser().get();
+        assertTrue(deck instanceof ReadOnlyDeck);
+        assertEquals(original.getQAndAList(), deck.getQAndAList());
+        assertEquals(original.getQAndAList().get(2).getId(), deck.getQAndAList().get(2).getId());
+        assertThrows(UnsupportedOperationException.class, () -> deck.getQAndAList().remove(0));
+    }
+
+    @Test
+    public void readMedmoriser_largeDeck_decodesOnlyAccessedQAndAs() throws Exception {
+        Path filePath = testFolder.resolve("large.bin");
+        Medmoriser original = new Medmoriser();
+        for (int i = 0; i < 5_000; i++) {
+            original.addQAndA(new QAndABuilder().withQuestion("Question " + i).withAnswer("Answer " + i)
+                    .withTags("Tag" + (i % 30)).build());
+        }
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(original);
+
+        MappedMedmoriser deck = (MappedMedmoriser) new MappedMedmoriserStorage(filePath, 2).readMedmoriser().get();
+        assertEquals(5_000, deck.getQAndAList().size());
+        assertEquals(0, deck.getDecodedCount());
+
+        QAndA qAndA = deck.getQAndAList().get(4_321);
+        assertEquals(original.getQAndAList().get(4_321), qAndA);
+        assertSame(qAndA, deck.getQAndAList().get(4_321));
+        assertEquals(1, deck.getDecodedCount());
+
+        // the cache is bounded
+        deck.getQAndAList().get(0);
+        deck.getQAndAList().get(1);
+        assertEquals(2, deck.getDecodedCount());
+    }
+
+    @Test
+    public void hasQAndA_largeDeck_decodesOnlyQAndAsWithSameQuestionHash() throws Exception {
+        Path filePath = testFolder.resolve("checked.bin");
+        Medmoriser original = new Medmoriser();
+        for (int i = 0; i < 5_000; i++) {
+            original.addQAndA(new QAndABuilder().withQuestion("Question " + i).withAnswer("Answer " + i).build());
+        }
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(original);
+
+        MappedMedmoriser deck = (MappedMedmoriser) new MappedMedmoriserStorage(filePath).readMedmoriser().get();
+        assertTrue(deck.hasQAndA(new QAndABuilder().withQuestion("Question 4321").withAnswer("Other").build()));
+        assertEquals(1, deck.getDecodedCount());
+        assertFalse(deck.hasQAndA(new QAndABuilder().withQuestion("Question 5000").build()));
+        assertEquals(1, deck.getDecodedCount());
+    }
+
+    @Test
+    public void readMedmoriser_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.bin");
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+        byte[] data = Files.readAllBytes(filePath);
+        data[data.length - 3] ^= 0x01;
+        Files.write(filePath, data);
+        assertThrows(DataConversionException.class, () -> new MappedMedmoriserStorage(filePath).readMedmoriser());
+    }
+
+    @Test
+    public void saveMedmoriser_readOnly_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("readOnly.bin");
+        new BinaryMedmoriserStorage(filePath).saveMedmoriser(getTypicalMedmoriser());
+        byte[] before = Files.readAllBytes(filePath);
+
+        MappedMedmoriserStorage storage = new MappedMedmoriserStorage(filePath);
+        assertThrows(IOException.class, () -> storage.saveMedmoriser(new Medmoriser()));
+        assertEquals(before.length, Files.size(filePath));
+    }
+
+}